@@ -0,0 +1,28 @@
+CREATE TABLE SEARCH_RESULT_BOOKMARK (
+  -- 앱이 만든 UUIDv7을 16바이트로 저장 (InnoDB는 PK 순서로 행을 저장해서 시간순 id면 항상 끝에 붙음)
+  bookmark_id   binary(16) primary key,
+  title         varchar(255) not null,
+  link         varchar(2000) not null,
+  description   varchar(2000) not null,
+  date          varchar(255) not null,
+  created_at    timestamp default current_timestamp
+);
+
+
+-- 북마크 목록(GET /bookmarks) 키셋 페이지네이션용 인덱스
+-- MySQL은 INCLUDE가 없어서 title, date를 키 뒤에 붙여 covering index로 만듦
+CREATE INDEX idx_bookmark_created_at_id
+  ON SEARCH_RESULT_BOOKMARK (created_at, bookmark_id, title, date);
+
+-- 검색 결과 저장소 (RESULT_STORE=db): 서버 여러 대가 검색 결과를 같이 봄 → 북마크 요청이 어느 서버로 가도 찾을 수 있음
+-- result_id는 검색 결과 uuid(UUIDv7)를 16바이트로, expires_at이 지난 행은 DbSearchResultStore가 주기적으로 지움
+CREATE TABLE SEARCH_RESULT (
+  result_id     binary(16) primary key,
+  title         varchar(255) not null,
+  link          varchar(2000) not null,
+  description   varchar(2000) not null,
+  date          varchar(255) not null,
+  expires_at    timestamp not null
+);
+
+CREATE INDEX idx_search_result_expires_at ON SEARCH_RESULT (expires_at);
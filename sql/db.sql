@@ -1,8 +1,31 @@
 CREATE TABLE SEARCH_RESULT_BOOKMARK (
-  bookmark_id   varchar(255) primary key default gen_random_uuid(),
+  -- 앱(BookmarkService)이 시간순 UUIDv7을 만들어 넣음 - 기본값은 SQL로 직접 넣을 때만 쓰임
+  -- uuid 타입: 16바이트 (varchar(36) 문자열은 37바이트 + 비교할 때 collation 비용)
+  bookmark_id   uuid primary key default gen_random_uuid(),
   title         varchar(255) not null,
   link         varchar(2000) not null,
   description   varchar(2000) not null,
   date          varchar(255) not null,
   created_at    timestamp default current_timestamp
-);
\ No newline at end of file
+);
+
+-- 북마크 목록(GET /bookmarks) 키셋 페이지네이션용 인덱스
+-- ORDER BY created_at DESC, bookmark_id DESC 순서 그대로 저장해두고,
+-- 목록에 필요한 title, date도 인덱스에 같이 넣어서(INCLUDE) 테이블을 읽지 않고 끝나게 함
+-- (link, description은 길어서 넣지 않음 - 인덱스 항목 크기 제한)
+CREATE INDEX idx_bookmark_created_at_id
+  ON SEARCH_RESULT_BOOKMARK (created_at DESC, bookmark_id DESC)
+  INCLUDE (title, date);
+
+-- 검색 결과 저장소 (RESULT_STORE=db): 서버 여러 대가 검색 결과를 같이 봄 → 북마크 요청이 어느 서버로 가도 찾을 수 있음
+-- result_id는 검색 결과 uuid(UUIDv7), expires_at이 지난 행은 DbSearchResultStore가 주기적으로 지움
+CREATE TABLE SEARCH_RESULT (
+  result_id     uuid primary key,
+  title         varchar(255) not null,
+  link          varchar(2000) not null,
+  description   varchar(2000) not null,
+  date          varchar(255) not null,
+  expires_at    timestamp not null
+);
+
+CREATE INDEX idx_search_result_expires_at ON SEARCH_RESULT (expires_at);
@@ -0,0 +1,19 @@
+-- bookmark_id: varchar(36) → binary(16) (MySQL 8)
+-- UUID_TO_BIN(값)은 swap 없이(두 번째 인자 생략) 바이트 순서 = 문자열 순서로 바꿈
+-- → UUIDv7은 시간순 그대로 정렬되고, UuidTypeHandler가 읽고 쓰는 16바이트 형식과 같아요.
+-- 테이블을 새로 쓰는 작업이라 트래픽이 적을 때 실행
+
+-- bookmark_id가 들어간 인덱스를 먼저 지웠다가 마지막에 다시 만듦
+DROP INDEX idx_bookmark_created_at_id ON SEARCH_RESULT_BOOKMARK;
+
+ALTER TABLE SEARCH_RESULT_BOOKMARK ADD COLUMN bookmark_uuid binary(16);
+UPDATE SEARCH_RESULT_BOOKMARK SET bookmark_uuid = UUID_TO_BIN(bookmark_id);
+
+ALTER TABLE SEARCH_RESULT_BOOKMARK
+  DROP PRIMARY KEY,
+  DROP COLUMN bookmark_id,
+  CHANGE COLUMN bookmark_uuid bookmark_id binary(16) NOT NULL FIRST,
+  ADD PRIMARY KEY (bookmark_id);
+
+CREATE INDEX idx_bookmark_created_at_id
+  ON SEARCH_RESULT_BOOKMARK (created_at, bookmark_id, title, date);
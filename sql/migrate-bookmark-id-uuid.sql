@@ -0,0 +1,14 @@
+-- bookmark_id: varchar(255) → uuid (PostgreSQL)
+-- 기존 값은 gen_random_uuid()가 만든 표준 형식 문자열이라 그대로 변환돼요.
+-- ALTER TYPE은 테이블과 인덱스(PK, idx_bookmark_created_at_id)를 새로 쓰기 때문에
+-- 도는 동안 테이블 전체가 잠김 → 트래픽이 적을 때 실행
+BEGIN;
+
+-- 예전 기본값(gen_random_uuid()::varchar)은 uuid로 자동 변환이 안 돼서 먼저 뺐다가 다시 넣음
+ALTER TABLE SEARCH_RESULT_BOOKMARK ALTER COLUMN bookmark_id DROP DEFAULT;
+ALTER TABLE SEARCH_RESULT_BOOKMARK ALTER COLUMN bookmark_id TYPE uuid USING bookmark_id::uuid;
+ALTER TABLE SEARCH_RESULT_BOOKMARK ALTER COLUMN bookmark_id SET DEFAULT gen_random_uuid();
+
+COMMIT;
+
+ANALYZE SEARCH_RESULT_BOOKMARK;
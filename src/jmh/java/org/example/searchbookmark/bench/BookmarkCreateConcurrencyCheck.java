@@ -0,0 +1,129 @@
+package org.example.searchbookmark.bench;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.session.SqlSessionManager;
+import org.example.searchbookmark.config.ExecutionMode;
+import org.example.searchbookmark.model.mapper.BookmarkMapper;
+import org.example.searchbookmark.model.vo.KeywordSearch;
+import org.example.searchbookmark.service.BookmarkService;
+import org.springframework.context.ApplicationEventPublisher;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// BookmarkService.createBookmark를 동시에 수백 번 불러서 호출마다 자기 북마크의 id를 돌려받는지 확인하는 점검 프로그램
+// 예전 checkLastID("가장 최근 북마크 id"를 따로 조회)는 동시에 저장하면 다른 사용자의 id를 돌려줬어요.
+// - CALLERS개 호출을 THREADS개 스레드에서 한꺼번에 시작 (CountDownLatch로 출발을 맞춤)
+// - 호출마다 자기만 쓰는 제목("동시 저장 17")으로 저장하고 돌려받은 id를 기억
+// - 확인: id가 모두 다름, 각 id로 DB에서 읽은 행의 제목이 그 호출의 제목, 테이블 행 수 == CALLERS
+// DB는 BookmarkMapperBenchmark와 같은 H2 메모리 DB (실제 mybatis-config.xml / BookmarkMapper.xml 사용), 기대와 다르면 종료 코드 1
+// 실행: mvn -Pbench test-compile exec:exec -Dbench.main=org.example.searchbookmark.bench.BookmarkCreateConcurrencyCheck -Djmh.args=
+public class BookmarkCreateConcurrencyCheck {
+    private static final int CALLERS = 500;
+    private static final int THREADS = 64;
+
+    public static void main(String[] args) throws Exception {
+        SqlSessionFactory sqlSessionFactory = h2SessionFactory();
+        BookmarkMapper bookmarkMapper = SqlSessionManager.newInstance(sqlSessionFactory).getMapper(BookmarkMapper.class);
+        // 저장 알림(검색 색인 갱신)은 이 점검과 상관없어서 버림
+        ApplicationEventPublisher ignoreEvents = event -> { };
+        BookmarkService bookmarkService = new BookmarkService(ExecutionMode.PLATFORM, ignoreEvents, sqlSessionFactory, bookmarkMapper);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            KeywordSearch bookmark = new KeywordSearch(null, title(i), "https://blog.naver.com/example/" + i,
+                    "동시에 저장한 북마크 " + i, "20261017", null);
+            futures.add(executor.submit(() -> {
+                start.await();
+                return bookmarkService.createBookmark(bookmark);
+            }));
+        }
+        start.countDown();
+        List<String> ids = new ArrayList<>();
+        for (Future<String> future : futures) {
+            ids.add(future.get());
+        }
+        executor.shutdown();
+
+        int distinct = new HashSet<>(ids).size();
+        check(distinct == CALLERS, "distinct ids: %d of %d".formatted(distinct, CALLERS));
+        int mismatched = 0;
+        for (int i = 0; i < CALLERS; i++) {
+            KeywordSearch row = bookmarkMapper.getOneBookmark(UUID.fromString(ids.get(i)));
+            if (row == null || !row.title().equals(title(i))) {
+                mismatched++;
+            }
+        }
+        check(mismatched == 0, "each id maps to the caller's own row (mismatched: %d)".formatted(mismatched));
+        long rows = countRows(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource());
+        check(rows == CALLERS, "one row per call: %d rows".formatted(rows));
+
+        bookmarkService.close();
+        System.out.println("all createBookmark concurrency checks passed");
+    }
+
+    private static String title(int caller) {
+        return "동시 저장 " + caller;
+    }
+
+    private static void check(boolean condition, String description) {
+        System.out.println((condition ? "PASS " : "FAIL ") + description);
+        if (!condition) {
+            System.exit(1);
+        }
+    }
+
+    // MyBatisConfig와 같은 설정 파일에 .env 대신 H2 접속 정보를 넣고, sql/db.sql 과 같은 테이블을 만듦
+    private static SqlSessionFactory h2SessionFactory() throws IOException, SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("DB_DRIVER", "org.h2.Driver");
+        properties.setProperty("DB_URL", "jdbc:h2:mem:bookmark-create-check;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        properties.setProperty("DB_USERNAME", "sa");
+        properties.setProperty("DB_PASSWORD", "");
+        properties.setProperty("DB_POOL_MAX_ACTIVE", "16");
+        properties.setProperty("DB_POOL_TYPE", "POOLED");
+        SqlSessionFactory sqlSessionFactory;
+        try (InputStream config = BookmarkCreateConcurrencyCheck.class.getClassLoader().getResourceAsStream("mybatis-config.xml")) {
+            sqlSessionFactory = new SqlSessionFactoryBuilder().build(config, properties);
+        }
+        DataSource dataSource = sqlSessionFactory.getConfiguration().getEnvironment().getDataSource();
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS search_result_bookmark");
+            statement.execute("""
+                    CREATE TABLE search_result_bookmark (
+                      bookmark_id   uuid default random_uuid() primary key,
+                      title         varchar(255) not null,
+                      link          varchar(2000) not null,
+                      description   varchar(2000) not null,
+                      date          varchar(255) not null,
+                      created_at    timestamp default current_timestamp
+                    )""");
+        }
+        return sqlSessionFactory;
+    }
+
+    private static long countRows(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT count(*) FROM search_result_bookmark")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
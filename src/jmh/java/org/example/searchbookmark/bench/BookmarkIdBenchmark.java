@@ -0,0 +1,181 @@
+package org.example.searchbookmark.bench;
+
+import org.example.searchbookmark.util.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// bookmark_id 키 방식별 INSERT / PK 조회 처리량 (테이블에 rows개가 이미 있는 상태에서)
+// - varchar_random : 예전 방식 (varchar 컬럼 + gen_random_uuid() 문자열)
+// - uuid_random    : uuid 컬럼 + 랜덤 UUIDv4 (타입만 바꾼 경우)
+// - uuid_v7        : uuid 컬럼 + UuidV7 (지금 방식)
+// 랜덤 키는 INSERT마다 인덱스 중간 아무 페이지에나 끼어들어서 페이지가 쪼개지고 캐시에 안 맞게 되고,
+// v7은 항상 오른쪽 끝 페이지에만 붙어서 인덱스가 작고 촘촘하게 유지돼요.
+//
+// 기본은 H2 파일 DB(PostgreSQL 모드)에 1000만 행. 실제 PostgreSQL로 재려면:
+//   mvn -Pbench test-compile exec:exec -Djmh.args="BookmarkIdBenchmark -jvmArgs -Dbench.jdbcUrl=jdbc:postgresql://localhost/bench?user=...&password=..."
+// 행 수를 줄여서 빨리 돌려보려면 -p rows=1000000
+// 데이터를 채우는 데 오래 걸리므로(1000만 행 × 키 방식 3개) 같은 rows로 다시 돌리면 기존 테이블을 그대로 씀
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class BookmarkIdBenchmark {
+    private static final int SEED_BATCH = 10_000;
+    // 조회할 id 표본 (1000만 개를 다 들고 있으면 힙이 모자라서 일부만)
+    private static final int SAMPLE_SIZE = 100_000;
+
+    @Param({"varchar_random", "uuid_random", "uuid_v7"})
+    String keyType;
+
+    @Param({"10000000"})
+    int rows;
+
+    private String url;
+    private String table;
+    private Object[] sample;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        url = System.getProperty("bench.jdbcUrl",
+                "jdbc:h2:file:./target/bench/bookmark-id;MODE=PostgreSQL;CACHE_SIZE=262144");
+        table = "bench_bookmark_" + keyType + "_" + rows;
+        sample = new Object[SAMPLE_SIZE];
+        try (Connection connection = DriverManager.getConnection(url)) {
+            if (!reuse(connection)) {
+                seed(connection);
+            }
+            loadSample(connection);
+        }
+    }
+
+    // 같은 조건으로 이미 채워둔 테이블이 있으면 재사용
+    private boolean reuse(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT count(*) FROM " + table)) {
+            return rs.next() && rs.getLong(1) >= rows;
+        } catch (SQLException tableMissing) {
+            return false;
+        }
+    }
+
+    private void seed(Connection connection) throws SQLException {
+        String idType = keyType.startsWith("varchar") ? "varchar(255)" : "uuid";
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("""
+                    CREATE TABLE %s (
+                      bookmark_id   %s primary key,
+                      title         varchar(255) not null,
+                      created_at    timestamp default current_timestamp
+                    )""".formatted(table, idType));
+        }
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(insertSql())) {
+            for (int i = 0; i < rows; i++) {
+                insert.setObject(1, nextId());
+                insert.setString(2, "<b>고양이</b> 사료 추천 후기 " + i);
+                insert.addBatch();
+                if ((i + 1) % SEED_BATCH == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+    }
+
+    // 표에 고르게 퍼진 id를 뽑아둠 (PK 순서로 rows/SAMPLE_SIZE 간격)
+    private void loadSample(Connection connection) throws SQLException {
+        int step = Math.max(1, rows / SAMPLE_SIZE);
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT bookmark_id FROM " + table)) {
+            int seen = 0;
+            int taken = 0;
+            while (rs.next() && taken < SAMPLE_SIZE) {
+                if (seen++ % step == 0) {
+                    sample[taken++] = rs.getObject(1);
+                }
+            }
+            if (taken < SAMPLE_SIZE) {
+                sample = Arrays.copyOf(sample, taken);
+            }
+        }
+    }
+
+    // 스레드마다 커넥션 하나 (커넥션 풀 비용은 빼고 인덱스 비용만 봄)
+    @State(Scope.Thread)
+    public static class Session {
+        Connection connection;
+        PreparedStatement insert;
+        PreparedStatement select;
+
+        @Setup(Level.Trial)
+        public void open(BookmarkIdBenchmark benchmark) throws SQLException {
+            connection = DriverManager.getConnection(benchmark.url);
+            insert = connection.prepareStatement(benchmark.insertSql());
+            select = connection.prepareStatement(
+                    "SELECT bookmark_id, title, created_at FROM " + benchmark.table + " WHERE bookmark_id = ?");
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public int insertBookmark(Session session) throws SQLException {
+        session.insert.setObject(1, nextId());
+        session.insert.setString(2, "<b>고양이</b> 사료 추천 후기");
+        return session.insert.executeUpdate();
+    }
+
+    @Benchmark
+    public boolean getOneBookmark(Session session) throws SQLException {
+        session.select.setObject(1, sample[ThreadLocalRandom.current().nextInt(sample.length)]);
+        try (ResultSet rs = session.select.executeQuery()) {
+            return rs.next();
+        }
+    }
+
+    private String insertSql() {
+        return "INSERT INTO " + table + " (bookmark_id, title) VALUES (?, ?)";
+    }
+
+    private Object nextId() {
+        return switch (keyType) {
+            case "varchar_random" -> UUID.randomUUID().toString();
+            case "uuid_random" -> UUID.randomUUID();
+            default -> UuidV7.next();
+        };
+    }
+}
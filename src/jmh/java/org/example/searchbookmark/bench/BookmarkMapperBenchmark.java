@@ -0,0 +1,139 @@
+package org.example.searchbookmark.bench;
+
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.example.searchbookmark.model.mapper.BookmarkMapper;
+import org.example.searchbookmark.model.vo.BookmarkInsert;
+import org.example.searchbookmark.model.vo.KeywordSearch;
+import org.example.searchbookmark.util.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// BookmarkMapper(MyBatis) 처리량 측정 - 실제 mybatis-config.xml / BookmarkMapper.xml 을 그대로 쓰고
+// DB만 H2 메모리 DB(PostgreSQL 모드)로 바꿔서 네트워크 없이 돌려요.
+// - insertBookmark      : INSERT (bookmark_id는 UuidV7로 미리 만들어 넣음)
+// - getOneBookmark      : SELECT + BookmarkMap(생성자 매핑)으로 KeywordSearch 만들기
+// - getOneBookmarkJdbc  : 같은 SELECT를 JDBC로 직접 → 위와의 차이가 MyBatis 매핑 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookmarkMapperBenchmark {
+    private static final int SEED_ROWS = 10_000;
+
+    private SqlSessionFactory sqlSessionFactory;
+    private DataSource dataSource;
+    private UUID[] ids;
+
+    @Setup
+    public void setUp() throws IOException, SQLException {
+        // MyBatisConfig와 같은 설정 파일에 .env 대신 H2 접속 정보를 넣음
+        Properties properties = new Properties();
+        properties.setProperty("DB_DRIVER", "org.h2.Driver");
+        properties.setProperty("DB_URL", "jdbc:h2:mem:bookmark-bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        properties.setProperty("DB_USERNAME", "sa");
+        properties.setProperty("DB_PASSWORD", "");
+        properties.setProperty("DB_POOL_MAX_ACTIVE", "8");
+        properties.setProperty("DB_POOL_TYPE", "POOLED");
+        try (InputStream config = getClass().getClassLoader().getResourceAsStream("mybatis-config.xml")) {
+            sqlSessionFactory = new SqlSessionFactoryBuilder().build(config, properties);
+        }
+        dataSource = sqlSessionFactory.getConfiguration().getEnvironment().getDataSource();
+
+        // sql/db.sql 과 같은 테이블 (H2에는 gen_random_uuid() 대신 random_uuid())
+        // mybatis-config.xml 의 UuidTypeHandler가 등록돼 있어서 uuid 컬럼을 그대로 씀
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS search_result_bookmark");
+            statement.execute("""
+                    CREATE TABLE search_result_bookmark (
+                      bookmark_id   uuid default random_uuid() primary key,
+                      title         varchar(255) not null,
+                      link          varchar(2000) not null,
+                      description   varchar(2000) not null,
+                      date          varchar(255) not null,
+                      created_at    timestamp default current_timestamp
+                    )""");
+        }
+
+        // 조회 벤치마크용 데이터를 미리 넣어둠
+        ids = new UUID[SEED_ROWS];
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            BookmarkMapper mapper = session.getMapper(BookmarkMapper.class);
+            for (int i = 0; i < SEED_ROWS; i++) {
+                BookmarkInsert row = newRow(i);
+                mapper.insertBookmark(row);
+                ids[i] = row.getBookmarkId();
+            }
+            session.commit();
+        }
+    }
+
+    @Benchmark
+    public UUID insertBookmark() {
+        try (SqlSession session = sqlSessionFactory.openSession(true)) {
+            BookmarkInsert row = newRow(ThreadLocalRandom.current().nextInt(SEED_ROWS));
+            session.getMapper(BookmarkMapper.class).insertBookmark(row);
+            return row.getBookmarkId();
+        }
+    }
+
+    @Benchmark
+    public KeywordSearch getOneBookmark() {
+        try (SqlSession session = sqlSessionFactory.openSession(true)) {
+            return session.getMapper(BookmarkMapper.class).getOneBookmark(randomId());
+        }
+    }
+
+    @Benchmark
+    public KeywordSearch getOneBookmarkJdbc() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT * FROM search_result_bookmark WHERE bookmark_id = ?")) {
+            statement.setObject(1, randomId());
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                return new KeywordSearch(rs.getString("bookmark_id"), rs.getString("title"), rs.getString("link"),
+                        rs.getString("description"), rs.getString("date"), rs.getString("created_at"));
+            }
+        }
+    }
+
+    private UUID randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    private static BookmarkInsert newRow(int i) {
+        BookmarkInsert row = new BookmarkInsert("<b>고양이</b> 사료 추천 후기 " + i,
+                "https://blog.naver.com/example/2234567" + i,
+                "집사 3년 차가 직접 먹여본 <b>고양이</b> 사료 비교입니다. 항목 번호 " + i,
+                "20261017");
+        row.setBookmarkId(UuidV7.next());
+        return row;
+    }
+}
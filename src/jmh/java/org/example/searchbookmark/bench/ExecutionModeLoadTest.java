@@ -0,0 +1,140 @@
+package org.example.searchbookmark.bench;
+
+import org.example.searchbookmark.config.ExecutionMode;
+import org.example.searchbookmark.model.vo.NaverSearchParam;
+import org.example.searchbookmark.util.LatencyHistogram;
+import org.example.searchbookmark.util.NaverSearchAPI;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// EXECUTION_MODE=platform / virtual 부하 비교 (동시 검색 1k, 5k, 10k)
+// 실행: mvn -Pbench test-compile exec:exec -Dbench.main=org.example.searchbookmark.bench.ExecutionModeLoadTest -Djmh.args=
+// - NaverStubServer를 별도 프로세스로 띄움 (평균 50ms 지연, 10k 연결이면 클라이언트/서버 소켓이 한 프로세스의 파일 개수 제한을 넘어서)
+// - (모드, 동시 검색 수)마다 새 JVM에서: 검색 N개가 항상 진행 중이도록 하나 끝나면 바로 다음 검색을 보냄 (closed loop)
+//   워밍업 3초 뒤 10초 동안 성공한 검색 수로 처리량, 걸린 시간으로 p50/p99
+// - 컨트롤러의 검색 경로와 같은 callAPIAsync를 쓰고, 응답 본문 읽기/JSON 변환이 모드별 실행기에서 돌아감
+// - 속도 제한은 넉넉히 풀고 동시 요청 상한은 N으로 고정 (자동 조절로 줄어들면 실행기가 아니라 상한을 재게 됨)
+// - 브레이커는 끄고 타임아웃은 30초로: 과부하가 "바로 거절되는 빠른 실패"가 아니라 p99 지연으로 보이도록
+// 가상 스레드는 자바 21 이상에서만 측정되고, 17에서는 "skipped"로 표시돼요.
+public class ExecutionModeLoadTest {
+    private static final List<Integer> CONCURRENCY = List.of(1_000, 5_000, 10_000);
+    private static final long STUB_LATENCY_MS = 50;
+    private static final long WARMUP_MS = 3_000;
+    private static final long MEASURE_MS = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        String mode = System.getenv("LOAD_TEST_MODE");
+        if (mode == null) {
+            System.exit(runAll());
+        }
+        int concurrency = Integer.parseInt(System.getenv("LOAD_TEST_CONCURRENCY"));
+        ExecutorService executor;
+        try {
+            executor = ExecutionMode.valueOf(mode).newExecutor("load");
+        } catch (IllegalStateException e) {
+            System.out.printf("%-8s %6d  skipped (%s, java %s)%n", mode, concurrency, e.getMessage(), Runtime.version());
+            return;
+        }
+        try {
+            run(new NaverSearchAPI(executor), mode, concurrency);
+        } finally {
+            executor.shutdownNow();
+        }
+        // HttpClient 내부 스레드가 남아 있어도 바로 끝나도록
+        System.exit(0);
+    }
+
+    private static void run(NaverSearchAPI api, String mode, int concurrency) throws InterruptedException {
+        Semaphore slots = new Semaphore(concurrency);
+        LatencyHistogram latency = new LatencyHistogram();
+        LongAdder failed = new LongAdder();
+        NaverSearchParam param = new NaverSearchParam("고양이");
+        long warmupEnd = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(WARMUP_MS);
+        long end = warmupEnd + TimeUnit.MILLISECONDS.toNanos(MEASURE_MS);
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            slots.acquire();
+            long start = System.nanoTime();
+            boolean measured = now >= warmupEnd;
+            api.callAPIAsync(param).whenComplete((result, error) -> {
+                if (measured) {
+                    if (error == null) {
+                        latency.recordSince(start);
+                    } else {
+                        failed.increment();
+                    }
+                }
+                slots.release();
+            });
+        }
+        // 측정 구간에 보낸 검색이 다 끝날 때까지
+        slots.acquire(concurrency);
+        Map<String, Object> stats = api.stats();
+        System.out.printf("%-8s %6d %10.0f %8.1f %8.1f %8d %8s%n", mode, concurrency,
+                latency.count() * 1000.0 / MEASURE_MS, latency.percentileMillis(0.5), latency.percentileMillis(0.99),
+                failed.sum(), stats.get("concurrencyLimited"));
+    }
+
+    // 스텁을 띄우고 (모드, 동시 검색 수)마다 환경 변수를 넣은 JVM을 하나씩 실행
+    private static int runAll() throws IOException, InterruptedException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        String java = ProcessHandle.current().info().command().orElse("java");
+        String classPath = System.getProperty("java.class.path");
+        Process stub = new ProcessBuilder(java, "-cp", classPath, NaverStubServer.class.getName(),
+                String.valueOf(port), String.valueOf(STUB_LATENCY_MS)).inheritIO().start();
+        int exit = 0;
+        try {
+            awaitListening(port);
+            System.out.printf("stub latency ~%dms (0-%dms), warmup %ds, measure %ds%n",
+                    STUB_LATENCY_MS, STUB_LATENCY_MS * 2, WARMUP_MS / 1000, MEASURE_MS / 1000);
+            System.out.printf("%-8s %6s %10s %8s %8s %8s %8s%n", "mode", "conc", "search/s", "p50 ms", "p99 ms", "failed", "limited");
+            for (int concurrency : CONCURRENCY) {
+                for (ExecutionMode mode : ExecutionMode.values()) {
+                    ProcessBuilder builder = new ProcessBuilder(java, "-cp", classPath,
+                            ExecutionModeLoadTest.class.getName()).inheritIO();
+                    Map<String, String> env = builder.environment();
+                    env.put("LOAD_TEST_MODE", mode.name());
+                    env.put("LOAD_TEST_CONCURRENCY", String.valueOf(concurrency));
+                    env.put("NAVER_API_BASE_URL", "http://localhost:" + port);
+                    env.put("NAVER_CLIENT_ID", "stub");
+                    env.put("NAVER_CLIENT_SECRET", "stub");
+                    env.put("NAVER_INITIAL_IN_FLIGHT", String.valueOf(concurrency));
+                    env.put("NAVER_MIN_IN_FLIGHT", String.valueOf(concurrency));
+                    env.put("NAVER_MAX_IN_FLIGHT", String.valueOf(concurrency));
+                    env.put("NAVER_RATE_BURST", "1000000");
+                    env.put("NAVER_RATE_PER_SEC", "1000000");
+                    env.put("NAVER_DAILY_QUOTA", "100000000");
+                    env.put("NAVER_BREAKER_FAILURE_RATE", "1.1");
+                    env.put("NAVER_TIMEOUT_MS", "30000");
+                    env.put("NAVER_CONNECT_TIMEOUT_MS", "5000");
+                    exit |= builder.start().waitFor();
+                }
+            }
+        } finally {
+            stub.destroy();
+        }
+        return exit;
+    }
+
+    private static void awaitListening(int port) throws InterruptedException, IOException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            try (Socket ignored = new Socket("localhost", port)) {
+                return;
+            } catch (IOException e) {
+                Thread.sleep(100);
+            }
+        }
+        throw new IOException("stub server did not start on port " + port);
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.searchbookmark.bench;
+
+import org.example.searchbookmark.model.vo.KeywordSearch;
+import org.example.searchbookmark.model.vo.NaverSearchResult;
+import org.example.searchbookmark.util.NaverResponseParser;
+import org.example.searchbookmark.util.ObjectMapperMixin;
+import org.example.searchbookmark.util.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Item → KeywordSearch 매핑 비용
+// 매핑 자체는 가볍고, 대부분은 uuid 생성 비용이라서 따로 떼어 재요.
+// uuidOnly(UUID.randomUUID(), SecureRandom) vs uuidV7(UuidV7, ThreadLocalRandom)
+// *Contended는 여러 스레드에서 동시에 돌려서 경합도 같이 확인 (@Threads)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeywordSearchMappingBenchmark implements ObjectMapperMixin {
+    @Param({"10", "100"})
+    int items;
+
+    private List<NaverSearchResult.Item> source;
+
+    @Setup
+    public void setUp() throws IOException {
+        source = objectMapper.readValue(NaverSamples.json(items), NaverSearchResult.class).items();
+    }
+
+    @Benchmark
+    public List<KeywordSearch> mapItems() {
+        List<KeywordSearch> results = new ArrayList<>(source.size());
+        for (NaverSearchResult.Item item : source) {
+            results.add(NaverResponseParser.toKeywordSearch(item));
+        }
+        return results;
+    }
+
+    @Benchmark
+    public UUID uuidOnly() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID uuidOnlyContended() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID uuidV7() {
+        return UuidV7.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID uuidV7Contended() {
+        return UuidV7.next();
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.searchbookmark.bench;
+
+import org.example.searchbookmark.util.PrefixIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// GET /suggest 한 번의 비용 비교 (인기 검색어 keywords 개, 접두어 하나로 상위 10개)
+// - scanAll     : 모든 키워드를 훑어서 접두어가 맞는 것을 점수순 정렬 (인덱스 없이 단순하게 하면)
+// - prefixIndex : KeywordSuggestService가 쓰는 PrefixIndex (접두어 노드까지 내려간 뒤 점수 높은 가지부터)
+// 키워드는 "한글 음절 2~4개 + 띄어쓰기 + 음절 1~3개" 같은 검색어 모양, 점수는 소수가 대부분을 차지하는 분포
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeywordSuggestBenchmark {
+    private static final int LIMIT = 10;
+
+    @Param({"1000", "10000"})
+    int keywords;
+
+    private Map<String, Double> scores;
+    private PrefixIndex index;
+    private String[] prefixes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        scores = new HashMap<>();
+        while (scores.size() < keywords) {
+            String keyword = syllables(random, 2 + random.nextInt(3));
+            if (random.nextBoolean()) {
+                keyword += " " + syllables(random, 1 + random.nextInt(3));
+            }
+            scores.put(keyword, 1000.0 / (1 + scores.size()));
+        }
+        index = PrefixIndex.build(scores);
+        // 입력 중인 검색어처럼 실제 키워드의 앞 1~3글자
+        String[] all = scores.keySet().toArray(String[]::new);
+        prefixes = new String[256];
+        for (int i = 0; i < prefixes.length; i++) {
+            String keyword = all[random.nextInt(all.length)];
+            prefixes[i] = keyword.substring(0, Math.min(keyword.length(), 1 + random.nextInt(3)));
+        }
+        System.out.printf("%nkeywords=%d nodes=%d%n", index.size(), index.nodeCount());
+    }
+
+    // 적은 종류의 음절만 써서 접두어를 공유하는 키워드가 많도록
+    private static String syllables(Random random, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.append((char) ('가' + random.nextInt(40) * 28));
+        }
+        return builder.toString();
+    }
+
+    private String prefix() {
+        return prefixes[next++ & (prefixes.length - 1)];
+    }
+
+    @Benchmark
+    public List<String> scanAll() {
+        String prefix = prefix();
+        return scores.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(LIMIT)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @Benchmark
+    public List<String> prefixIndex() {
+        return index.suggest(prefix(), LIMIT);
+    }
+}
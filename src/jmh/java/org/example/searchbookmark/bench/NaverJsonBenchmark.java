@@ -0,0 +1,77 @@
+package org.example.searchbookmark.bench;
+
+import org.example.searchbookmark.model.vo.KeywordSearch;
+import org.example.searchbookmark.model.vo.NaverSearchResult;
+import org.example.searchbookmark.util.NaverResponseParser;
+import org.example.searchbookmark.util.ObjectMapperMixin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 네이버 응답 본문 → List<KeywordSearch> 까지 한 번의 비용 비교 (세 방식 모두 같은 결과물까지)
+// - databindFromString: 예전 방식 그대로 (BodyHandlers.ofString()처럼 본문 전체 String
+//                       → readValue로 NaverSearchResult(List<Item>) → KeywordSearch로 매핑하면서 UUID.randomUUID())
+// - streaming         : 지금 방식 (NaverResponseParser, 바이트 스트림 → Item 하나씩 → KeywordSearch, UuidV7)
+// - streamingGzip     : 지금 방식 + gzip 압축 해제
+// -prof gc 로 돌리면 gc.alloc.rate.norm(호출 1번당 할당 바이트)을 같이 볼 수 있어요.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NaverJsonBenchmark implements ObjectMapperMixin {
+    @Param({"10", "100"})
+    int items;
+
+    private byte[] body;
+    private byte[] gzipBody;
+    private final NaverResponseParser parser = new NaverResponseParser();
+
+    @Setup
+    public void setUp() {
+        body = NaverSamples.json(items);
+        gzipBody = NaverSamples.gzip(body);
+    }
+
+    @Benchmark
+    public List<KeywordSearch> databindFromString() throws IOException {
+        // HttpClient의 BodyHandlers.ofString() 이 하던 일(바이트 → String)까지 포함
+        String responseBody = new String(body, StandardCharsets.UTF_8);
+        NaverSearchResult naverSearchResult = objectMapper.readValue(responseBody, NaverSearchResult.class);
+        return naverSearchResult.items()
+                .stream().map(item -> new KeywordSearch(
+                        UUID.randomUUID().toString(),
+                        item.title(),
+                        item.link(),
+                        item.description(),
+                        item.postdate(),
+                        null))
+                .toList();
+    }
+
+    @Benchmark
+    public List<KeywordSearch> streaming() throws IOException {
+        return parser.parse(new ByteArrayInputStream(body), false);
+    }
+
+    @Benchmark
+    public List<KeywordSearch> streamingGzip() throws IOException {
+        return parser.parse(new ByteArrayInputStream(gzipBody), true);
+    }
+}
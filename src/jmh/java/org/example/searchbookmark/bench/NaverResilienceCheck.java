@@ -0,0 +1,143 @@
+package org.example.searchbookmark.bench;
+
+import org.example.searchbookmark.model.vo.KeywordSearch;
+import org.example.searchbookmark.model.vo.NaverSearchParam;
+import org.example.searchbookmark.util.NaverSearchAPI;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+// NaverSearchAPI의 장애 대응(서킷 브레이커, 동시 요청 상한 자동 조절)을 NaverStubServer에 붙여서 확인하는 점검 프로그램
+// 실행: mvn -Pbench test-compile exec:exec -Dbench.main=org.example.searchbookmark.bench.NaverResilienceCheck -Djmh.args=
+// 단계마다 스텁의 지연/오류를 바꾸고 /metrics/upstream 과 같은 stats()로 상태를 확인, 기대와 다르면 종료 코드 1
+//   1) 정상        : 실패 없음, 브레이커 CLOSED
+//   2) 느려짐      : 응답 시간이 평소의 몇 배 → 동시 요청 상한이 처음 값보다 줄어듦
+//   3) 503 연속    : 실패율 50% 이상 → OPEN, 그 뒤 호출은 네이버를 부르지 않고 바로 거절
+//   4) 열린 시간 뒤 : HALF_OPEN 시험 호출이 실패 → 다시 OPEN
+//   5) 복구        : 시험 호출 3번 성공 → CLOSED
+// NaverSearchAPI는 설정을 .env/환경 변수로만 읽어서, 스텁 주소와 짧은 OPEN 시간을 넣은 환경 변수로 자기 자신을 한 번 더 실행해요.
+public class NaverResilienceCheck {
+    private static final long OPEN_MS = 1000;
+    private static final int INITIAL_LIMIT = 16;
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getenv("NAVER_API_BASE_URL");
+        if (baseUrl == null || !baseUrl.startsWith("http://localhost:") || System.getenv("RESILIENCE_CHECK_CHILD") == null) {
+            System.exit(relaunch());
+        }
+        int port = Integer.parseInt(baseUrl.substring("http://localhost:".length()));
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try (NaverStubServer stub = NaverStubServer.start(port, 10, 0, 500)) {
+            NaverSearchAPI api = new NaverSearchAPI(executor);
+
+            // 1) 정상
+            int failed = calls(api, 20, 10);
+            check(failed == 0, "healthy: no failures (" + failed + ")");
+            check(state(api).equals("CLOSED"), "healthy: breaker CLOSED");
+
+            // 2) 느려짐: 10ms → 평균 300ms, 상한만큼 동시에 보냄
+            stub.latencyMs(300);
+            for (int round = 0; round < 6; round++) {
+                calls(api, INITIAL_LIMIT, INITIAL_LIMIT);
+            }
+            int limit = ((Number) api.stats().get("concurrencyLimit")).intValue();
+            check(limit < INITIAL_LIMIT, "slow upstream: concurrency limit shrank %d -> %d".formatted(INITIAL_LIMIT, limit));
+            check(state(api).equals("CLOSED"), "slow upstream: slow successes do not open the breaker");
+
+            // 3) 503 연속
+            stub.latencyMs(5);
+            stub.errors(1.0, 503);
+            calls(api, 10, 1);
+            check(state(api).equals("OPEN"), "errors: breaker OPEN after failure rate >= 50%");
+            check(rejectedAsOpen(api), "errors: calls rejected without reaching upstream while OPEN");
+
+            // 4) 시험 호출 실패 → 다시 OPEN
+            Thread.sleep(OPEN_MS + 100);
+            calls(api, 1, 1);
+            check(state(api).equals("OPEN"), "half-open: failed trial re-opens the breaker");
+            check(((Number) api.stats().get("circuitOpened")).longValue() == 2, "half-open: opened twice");
+
+            // 5) 복구
+            stub.errors(0, 503);
+            Thread.sleep(OPEN_MS + 100);
+            failed = calls(api, 3, 1);
+            check(failed == 0, "recovery: trial calls succeed");
+            check(state(api).equals("CLOSED"), "recovery: breaker CLOSED after 3 successful trials");
+
+            System.out.println("upstream stats: " + api.stats());
+            System.out.println("all resilience checks passed");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // count번 호출 (parallel개씩 동시에), 실패한 수를 돌려줌
+    private static int calls(NaverSearchAPI api, int count, int parallel) throws InterruptedException {
+        int failed = 0;
+        for (int sent = 0; sent < count; sent += parallel) {
+            List<CompletableFuture<List<KeywordSearch>>> futures = new ArrayList<>();
+            for (int i = 0; i < Math.min(parallel, count - sent); i++) {
+                futures.add(api.callAPIAsync(new NaverSearchParam("고양이")));
+            }
+            for (CompletableFuture<List<KeywordSearch>> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    failed++;
+                }
+            }
+        }
+        return failed;
+    }
+
+    private static boolean rejectedAsOpen(NaverSearchAPI api) throws InterruptedException {
+        try {
+            api.callAPIAsync(new NaverSearchParam("고양이")).get();
+            return false;
+        } catch (ExecutionException e) {
+            return e.getCause() instanceof RejectedExecutionException && e.getCause().getMessage().contains("circuit");
+        }
+    }
+
+    private static String state(NaverSearchAPI api) {
+        return (String) api.stats().get("circuitState");
+    }
+
+    private static void check(boolean condition, String description) {
+        System.out.println((condition ? "PASS " : "FAIL ") + description);
+        if (!condition) {
+            System.exit(1);
+        }
+    }
+
+    // 빈 포트를 골라서 그 포트의 스텁을 보도록 환경 변수를 넣고 같은 클래스패스로 다시 실행
+    private static int relaunch() throws IOException, InterruptedException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        String java = ProcessHandle.current().info().command().orElse("java");
+        ProcessBuilder builder = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                NaverResilienceCheck.class.getName()).inheritIO();
+        Map<String, String> env = builder.environment();
+        env.put("RESILIENCE_CHECK_CHILD", "1");
+        env.put("NAVER_API_BASE_URL", "http://localhost:" + port);
+        env.put("NAVER_CLIENT_ID", "stub");
+        env.put("NAVER_CLIENT_SECRET", "stub");
+        env.put("NAVER_TIMEOUT_MS", "3000");
+        env.put("NAVER_BREAKER_OPEN_MS", String.valueOf(OPEN_MS));
+        env.put("NAVER_INITIAL_IN_FLIGHT", String.valueOf(INITIAL_LIMIT));
+        // 이 점검에서는 속도 제한에 걸리지 않게 넉넉히
+        env.put("NAVER_RATE_BURST", "1000");
+        env.put("NAVER_RATE_PER_SEC", "1000");
+        return builder.start().waitFor();
+    }
+}
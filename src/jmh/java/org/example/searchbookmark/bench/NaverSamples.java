@@ -0,0 +1,42 @@
+package org.example.searchbookmark.bench;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+// 벤치마크용 가짜 네이버 블로그 검색 응답 (네트워크 없이 같은 모양의 JSON을 만듦)
+// 실제 응답처럼 <b> 태그, 한글, 쓰지 않는 필드(bloggername 등)를 섞어 넣어요.
+final class NaverSamples {
+    private NaverSamples() {}
+
+    static byte[] json(int items) {
+        StringBuilder json = new StringBuilder(512 + items * 400);
+        json.append("{\"lastBuildDate\":\"Fri, 17 Oct 2026 10:00:00 +0900\",\"total\":123456,\"start\":1,")
+                .append("\"display\":").append(items).append(",\"items\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"title\":\"<b>고양이</b> 사료 추천 후기 ").append(i).append("\",")
+                    .append("\"link\":\"https://blog.naver.com/example/2234567").append(i).append("\",")
+                    .append("\"description\":\"집사 3년 차가 직접 먹여본 <b>고양이</b> 사료 비교입니다. ")
+                    .append("기호성, 성분, 가격을 기준으로 정리했어요. 항목 번호 ").append(i).append("\",")
+                    .append("\"bloggername\":\"냥집사\",\"bloggerlink\":\"blog.naver.com/example\",")
+                    .append("\"postdate\":\"202610").append(String.format("%02d", i % 28 + 1)).append("\"}");
+        }
+        json.append("]}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.searchbookmark.bench;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 네이버 검색 API를 흉내 내는 로컬 서버 (지연/오류를 일부러 섞어서 장애 대응 동작을 확인하는 용도)
+// 실행: mvn -Pbench test-compile 후
+//   java -cp target/classes:target/test-classes org.example.searchbookmark.bench.NaverStubServer 9999 200 0.2 429
+//   → 9999 포트, 평균 200ms 지연(0~2배 랜덤), 20% 확률로 429 응답
+// 앱 쪽 .env: NAVER_API_BASE_URL=http://localhost:9999
+// 상태는 /metrics/upstream 에서 확인 (circuitState, concurrencyLimit, rateLimited ...)
+// 같은 JVM에서 start()로 띄우고 도중에 지연/오류를 바꿀 수도 있어요. (NaverResilienceCheck, ExecutionModeLoadTest)
+public class NaverStubServer implements AutoCloseable {
+    private static final int BACKLOG = 4096;
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private volatile long latencyMs;
+    private volatile double errorRate;
+    private volatile int errorStatus;
+
+    private NaverStubServer(int port, long latencyMs, double errorRate, int errorStatus) throws IOException {
+        this.latencyMs = latencyMs;
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+        // 수천 개 연결이 한꺼번에 들어와도 accept 대기열이 넘치지 않도록 (ExecutionModeLoadTest)
+        this.server = HttpServer.create(new InetSocketAddress(port), BACKLOG);
+        server.createContext("/v1/search/", this::handle);
+        server.setExecutor(executor);
+    }
+
+    public static NaverStubServer start(int port, long latencyMs, double errorRate, int errorStatus) throws IOException {
+        NaverStubServer stub = new NaverStubServer(port, latencyMs, errorRate, errorStatus);
+        stub.server.start();
+        return stub;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 9999;
+        long latencyMs = args.length > 1 ? Long.parseLong(args[1]) : 100;
+        double errorRate = args.length > 2 ? Double.parseDouble(args[2]) : 0.0;
+        int errorStatus = args.length > 3 ? Integer.parseInt(args[3]) : 500;
+        start(port, latencyMs, errorRate, errorStatus);
+        System.out.printf("Naver stub listening on :%d (latency ~%dms, %.0f%% -> %d)%n",
+                port, latencyMs, errorRate * 100, errorStatus);
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    // 평균 지연 (실제로는 0 ~ 2배 사이 랜덤)
+    public void latencyMs(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    // errorRate 확률로 본문 없이 errorStatus 응답
+    public void errors(double errorRate, int errorStatus) {
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long latency = latencyMs;
+            if (latency > 0) {
+                Thread.sleep(random.nextLong(latency * 2 + 1));
+            }
+            if (random.nextDouble() < errorRate) {
+                exchange.sendResponseHeaders(errorStatus, -1);
+                return;
+            }
+            byte[] body = NaverSamples.json(display(exchange.getRequestURI().getRawQuery()));
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int display(String query) {
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                if (pair.startsWith("display=")) {
+                    return Integer.parseInt(pair.substring("display=".length()));
+                }
+            }
+        }
+        return 10;
+    }
+}
@@ -0,0 +1,166 @@
+package org.example.searchbookmark.bench;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.example.searchbookmark.config.ReadRouting;
+import org.example.searchbookmark.config.RoutingDataSource;
+import org.example.searchbookmark.model.mapper.BookmarkMapper;
+import org.example.searchbookmark.model.vo.KeywordSearch;
+import org.example.searchbookmark.util.Metrics;
+import org.example.searchbookmark.util.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 읽기 복제본 라우팅(RoutingDataSource) 확인용 - H2 메모리 DB 3개(primary 1 + 복제본 2)에 같은 데이터를 넣고
+// 실제 mybatis-config.xml / BookmarkMapper.xml 로 getOneBookmark를 여러 스레드에서 동시에 돌려요.
+// - primaryOnly : ReadRouting 밖 → 전부 primary 풀 하나로
+// - routed      : ReadRouting.readOnly 안 → 두 복제본 풀에 least-outstanding으로 나뉨
+// - pinned      : readOnly지만 read-your-writes 로 primary 고정
+// 끝나면 라우팅 결과(db_route_total 등)를 출력해서 나뉜 비율을 확인할 수 있어요.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class ReplicaRoutingBenchmark {
+    private static final int SEED_ROWS = 10_000;
+    private static final int POOL_SIZE = 4;
+
+    private SqlSessionFactory sqlSessionFactory;
+    private UUID[] ids;
+
+    @Setup
+    public void setUp() throws IOException, SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("DB_DRIVER", "org.h2.Driver");
+        properties.setProperty("DB_URL", url("primary"));
+        properties.setProperty("DB_USERNAME", "sa");
+        properties.setProperty("DB_PASSWORD", "");
+        properties.setProperty("DB_POOL_MAX_ACTIVE", String.valueOf(POOL_SIZE));
+        properties.setProperty("DB_POOL_TYPE", "POOLED");
+        try (InputStream config = getClass().getClassLoader().getResourceAsStream("mybatis-config.xml")) {
+            sqlSessionFactory = new SqlSessionFactoryBuilder().build(config, properties);
+        }
+
+        // MyBatisConfig.installReplicas 와 같은 방식으로 DataSource를 라우터로 바꿔 끼움
+        Configuration configuration = sqlSessionFactory.getConfiguration();
+        Environment environment = configuration.getEnvironment();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String name : new String[]{"replica-1", "replica-2"}) {
+            PooledDataSource replica = new PooledDataSource("org.h2.Driver", url(name), "sa", "");
+            replica.setPoolMaximumActiveConnections(POOL_SIZE);
+            replicas.put(name, replica);
+        }
+        RoutingDataSource routing = new RoutingDataSource(environment.getDataSource(), replicas, 5_000);
+        configuration.setEnvironment(new Environment(environment.getId(), environment.getTransactionFactory(), routing));
+
+        // 세 DB에 똑같은 행을 넣어서 "복제가 끝난" 상태를 흉내 냄
+        ids = new UUID[SEED_ROWS];
+        for (int i = 0; i < SEED_ROWS; i++) {
+            ids[i] = UuidV7.next();
+        }
+        seed(routing.primary());
+        for (DataSource replica : replicas.values()) {
+            seed(replica);
+        }
+    }
+
+    private static String url(String name) {
+        return "jdbc:h2:mem:bookmark-" + name + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+    }
+
+    private void seed(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS search_result_bookmark");
+                statement.execute("""
+                        CREATE TABLE search_result_bookmark (
+                          bookmark_id   uuid default random_uuid() primary key,
+                          title         varchar(255) not null,
+                          link          varchar(2000) not null,
+                          description   varchar(2000) not null,
+                          date          varchar(255) not null,
+                          created_at    timestamp default current_timestamp
+                        )""");
+            }
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO search_result_bookmark (bookmark_id, title, link, description, date) VALUES (?, ?, ?, ?, ?)")) {
+                for (int i = 0; i < ids.length; i++) {
+                    insert.setObject(1, ids[i]);
+                    insert.setString(2, "<b>고양이</b> 사료 추천 후기 " + i);
+                    insert.setString(3, "https://blog.naver.com/example/2234567" + i);
+                    insert.setString(4, "집사 3년 차가 직접 먹여본 <b>고양이</b> 사료 비교입니다. 항목 번호 " + i);
+                    insert.setString(5, "20261017");
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void printRouting() {
+        Metrics.prometheus().lines()
+                .filter(line -> line.startsWith("db_route_total") || line.startsWith("db_replica_"))
+                .forEach(System.out::println);
+    }
+
+    @Benchmark
+    public KeywordSearch primaryOnly() {
+        return getOne();
+    }
+
+    @Benchmark
+    public KeywordSearch routed() {
+        return ReadRouting.readOnly(this::getOne);
+    }
+
+    @Benchmark
+    public KeywordSearch pinned() {
+        ReadRouting.pinPrimary(true);
+        try {
+            return ReadRouting.readOnly(this::getOne);
+        } finally {
+            ReadRouting.pinPrimary(false);
+        }
+    }
+
+    private KeywordSearch getOne() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            return session.getMapper(BookmarkMapper.class).getOneBookmark(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.searchbookmark.bench;
+
+import org.example.searchbookmark.model.vo.KeywordSearch;
+import org.example.searchbookmark.util.HtmlEscaper;
+import org.example.searchbookmark.util.NaverResponseParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 검색 결과 화면(index.jsp) 본문을 그리는 비용 비교 (JSP가 생성하는 코드와 같은 모양으로 Writer에 씀)
+// - inlineCssUnescaped : 예전 index.jsp (매 응답에 <style> 2KB + 제목/설명을 이스케이프 없이 그대로)
+// - replaceChain       : String.replace를 5번 이어서 이스케이프 (필드마다 중간 문자열이 생김)
+// - htmlEscaper        : 지금 index.jsp (CSS는 /asset/site.css 링크, HtmlEscaper로 한 번 훑으며 바로 씀)
+// Writer는 JspWriter 버퍼처럼 하나를 계속 재사용. 시작할 때 응답 크기(원본/gzip)를 한 번 출력해요.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchPageRenderBenchmark {
+    // 예전 index.jsp 의 <style> 블록과 같은 크기의 CSS
+    private static final String INLINE_CSS = "body { font-family: sans-serif; margin: 20px; }\n".repeat(40);
+
+    @Param({"10", "100"})
+    int items;
+
+    private List<KeywordSearch> results;
+    private final CharArrayWriter buffer = new CharArrayWriter(16 * 1024);
+
+    @Setup
+    public void setUp() throws IOException {
+        results = new NaverResponseParser().parse(new ByteArrayInputStream(NaverSamples.json(items)), false);
+        for (String page : new String[]{"inlineCssUnescaped", "htmlEscaper"}) {
+            buffer.reset();
+            if (page.equals("htmlEscaper")) {
+                htmlEscaper();
+            } else {
+                inlineCssUnescaped();
+            }
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            System.out.printf("%n%s items=%d: %d bytes, gzip %d bytes%n", page, items, bytes.length, NaverSamples.gzip(bytes).length);
+        }
+    }
+
+    @Benchmark
+    public int inlineCssUnescaped() throws IOException {
+        Writer out = reset();
+        out.write("<html><head><title>검색 결과</title><style>");
+        out.write(INLINE_CSS);
+        out.write("</style></head><body><section>");
+        for (KeywordSearch v : results) {
+            out.write("<div><h3>");
+            out.write(v.title());
+            out.write("</h3><ul><li><a href=\"");
+            out.write(v.link());
+            out.write("\" target=\"_blank\">");
+            out.write(v.link());
+            out.write("</a></li><li>");
+            out.write(v.description());
+            out.write("</li><li>날짜: ");
+            out.write(v.date());
+            out.write("</li><form action=\"bookmark\" method=\"post\"><input type=\"hidden\" name=\"uuid\" value=\"");
+            out.write(v.uuid());
+            out.write("\"><button>북마크 추가</button></form></ul></div>");
+        }
+        out.write("</section></body></html>");
+        return buffer.size();
+    }
+
+    @Benchmark
+    public int replaceChain() throws IOException {
+        Writer out = reset();
+        out.write("<html><head><title>검색 결과</title><link rel=\"stylesheet\" href=\"/asset/site-0123456789abcdef.css\">");
+        out.write("</head><body class=\"page-search\"><section>");
+        for (KeywordSearch v : results) {
+            out.write("<div><h3>");
+            out.write(replaceEscape(v.title()));
+            out.write("</h3><ul><li><a href=\"");
+            out.write(replaceEscape(v.link()));
+            out.write("\" target=\"_blank\" rel=\"noopener\">");
+            out.write(replaceEscape(v.link()));
+            out.write("</a></li><li>");
+            out.write(replaceEscape(v.description()));
+            out.write("</li><li>날짜: ");
+            out.write(replaceEscape(v.date()));
+            out.write("</li><form action=\"bookmark\" method=\"post\"><input type=\"hidden\" name=\"uuid\" value=\"");
+            out.write(replaceEscape(v.uuid()));
+            out.write("\"><button>북마크 추가</button></form></ul></div>");
+        }
+        out.write("</section></body></html>");
+        return buffer.size();
+    }
+
+    @Benchmark
+    public int htmlEscaper() throws IOException {
+        Writer out = reset();
+        out.write("<html><head><title>검색 결과</title><link rel=\"stylesheet\" href=\"/asset/site-0123456789abcdef.css\">");
+        out.write("</head><body class=\"page-search\"><section>");
+        for (KeywordSearch v : results) {
+            out.write("<div><h3>");
+            HtmlEscaper.text(out, v.title());
+            out.write("</h3><ul><li><a href=\"");
+            HtmlEscaper.url(out, v.link());
+            out.write("\" target=\"_blank\" rel=\"noopener\">");
+            HtmlEscaper.text(out, v.link());
+            out.write("</a></li><li>");
+            HtmlEscaper.text(out, v.description());
+            out.write("</li><li>날짜: ");
+            HtmlEscaper.text(out, v.date());
+            out.write("</li><form action=\"bookmark\" method=\"post\"><input type=\"hidden\" name=\"uuid\" value=\"");
+            HtmlEscaper.attribute(out, v.uuid());
+            out.write("\"><button>북마크 추가</button></form></ul></div>");
+        }
+        out.write("</section></body></html>");
+        return buffer.size();
+    }
+
+    private Writer reset() {
+        buffer.reset();
+        return buffer;
+    }
+
+    private static String replaceEscape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+                .replace("\"", "&quot;").replace("'", "&#39;");
+    }
+}
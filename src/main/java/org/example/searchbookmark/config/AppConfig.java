@@ -1,8 +1,24 @@
 package org.example.searchbookmark.config;
 
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionManager;
+import org.example.searchbookmark.model.mapper.BookmarkMapper;
+import org.example.searchbookmark.model.mapper.SearchResultMapper;
+import org.example.searchbookmark.service.DbSearchResultStore;
+import org.example.searchbookmark.service.FederatedSearchService;
+import org.example.searchbookmark.service.FileSearchResultStore;
+import org.example.searchbookmark.service.InMemorySearchResultStore;
+import org.example.searchbookmark.service.NaverSearchService;
+import org.example.searchbookmark.service.SearchResultStore;
+import org.example.searchbookmark.service.SearchService;
+import org.example.searchbookmark.util.DotenvMixin;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+
 // 스프링이 어떤 클래스를 빈(Bean)으로 관리할지 알려주는 지도
 
 @Configuration
@@ -12,7 +28,69 @@ import org.springframework.context.annotation.Configuration;
 "Spring아, org.example.searchbookmark 패키지와 그 하위에 있는 클래스들 중에서
 @Component, @Service, @Repository, @Controller 같은 어노테이션 붙은 애들 자동으로 찾아서 Bean으로 등록해줘!"
 ```
-public class AppConfig {
+public class AppConfig implements DotenvMixin {
+
+    // 비동기 요청 처리, 네이버 HttpClient, DB 작업이 함께 쓰는 실행기
+    // EXECUTION_MODE(platform/virtual)에 따라 OS 스레드 풀 또는 가상 스레드로 만들어져요.
+    @Bean
+    public ExecutionMode executionMode() {
+        return ExecutionMode.current();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService applicationExecutor(ExecutionMode executionMode) {
+        return executionMode.newExecutor("app");
+    }
+
+    // MyBatis: 스프링이 시작할 때 한 번 만들어 둠 (첫 요청이 설정 파싱 + 풀 생성 비용을 떠안지 않도록)
+    @Bean
+    public SqlSessionFactory sqlSessionFactory() {
+        return MyBatisConfig.build();
+    }
+
+    // 여러 스레드가 같이 써도 되는 BookmarkMapper
+    // SqlSessionManager로 만든 mapper는 메서드를 부를 때마다 세션을 열고 → 실행 → commit → 닫아요.
+    // (한 세션에서 SQL을 여러 번 써야 하는 작업은 지금처럼 sqlSessionFactory로 직접 세션을 엶)
+    @Bean
+    public SqlSessionManager sqlSessionManager(SqlSessionFactory sqlSessionFactory) {
+        return SqlSessionManager.newInstance(sqlSessionFactory);
+    }
+
+    @Bean
+    public BookmarkMapper bookmarkMapper(SqlSessionManager sqlSessionManager) {
+        return sqlSessionManager.getMapper(BookmarkMapper.class);
+    }
+
+    // 검색 결과 저장소: RESULT_STORE=memory(기본), file 또는 db
+    // - memory/file: 서버 한 대 안에서만 보임 → 서버가 여러 대면 로드밸런서에 sticky session이 필요해요.
+    //   file은 서버를 재시작해도 결과가 남아 있어서, 재배포 직후에도 방금 본 검색 결과를 북마크할 수 있어요.
+    // - db: search_result 테이블(sql/db.sql)을 모든 서버가 같이 씀 → 어느 서버로 북마크 요청이 가도 됨
+    @Bean
+    public SearchResultStore searchResultStore(SqlSessionManager sqlSessionManager) {
+        int maxEntries = Integer.parseInt(dotenv.get("RESULT_STORE_MAX_ENTRIES", "200000"));
+        long ttlMs = Long.parseLong(dotenv.get("RESULT_STORE_TTL_MS", "1800000"));
+        if ("db".equalsIgnoreCase(dotenv.get("RESULT_STORE", "memory"))) {
+            long cleanupMs = Long.parseLong(dotenv.get("RESULT_STORE_CLEANUP_MS", "60000"));
+            return new DbSearchResultStore(sqlSessionManager.getMapper(SearchResultMapper.class), maxEntries, ttlMs, cleanupMs);
+        }
+        if ("file".equalsIgnoreCase(dotenv.get("RESULT_STORE", "memory"))) {
+            Path path = Path.of(dotenv.get("RESULT_STORE_PATH", System.getProperty("java.io.tmpdir") + "/search-bookmark/results.log"));
+            long maxBytes = Long.parseLong(dotenv.get("RESULT_STORE_MAX_BYTES", String.valueOf(256L * 1024 * 1024)));
+            return new FileSearchResultStore(path, maxEntries, maxBytes, ttlMs);
+        }
+        return new InMemorySearchResultStore(maxEntries, ttlMs);
+    }
+
+    // CachingSearchService 뒤에서 실제로 네이버를 부르는 검색 서비스
+    // SEARCH_UPSTREAM=naver(기본): 블로그 검색 한 페이지 / federated: 블로그+뉴스+카페+웹문서 여러 페이지를 동시에
+    @Bean
+    public SearchService upstreamSearchService(NaverSearchService naverSearchService,
+                                               FederatedSearchService federatedSearchService) {
+        if ("federated".equalsIgnoreCase(dotenv.get("SEARCH_UPSTREAM", "naver"))) {
+            return federatedSearchService;
+        }
+        return naverSearchService;
+    }
 }
     ```
     Bean(빈) = 스프링이 자동으로 new 해주는 객체
@@ -0,0 +1,24 @@
+package org.example.searchbookmark.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+// 특정 경로의 비동기 요청만 타임아웃을 따로 정하는 인터셉터
+// MVC_ASYNC_TIMEOUT_MS(기본 5초)는 검색/북마크 같은 짧은 요청 기준이라
+// 대용량 내보내기(StreamingResponseBody)처럼 오래 걸리는 응답은 중간에 끊겨버려요.
+// 비동기 처리가 시작된 직후(아직 톰캣 요청 스레드 안)에 AsyncContext 타임아웃을 늘려줌
+public class AsyncTimeoutInterceptor implements AsyncHandlerInterceptor {
+    private final long timeoutMs;
+
+    public AsyncTimeoutInterceptor(long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().setTimeout(timeoutMs);
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package org.example.searchbookmark.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.example.searchbookmark.util.Metrics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+// 응답 본문 gzip 압축 필터 (WebAppInitializer에서 모든 주소에 등록)
+// - 브라우저가 Accept-Encoding: gzip 을 보냈고, 본문이 텍스트(HTML/CSS/JS/JSON/CSV)이고, threshold 바이트를 넘을 때만 압축
+//   (작은 응답은 압축해도 헤더/CPU 비용이 더 커서 그대로 보냄)
+// - 처음 threshold 바이트까지는 메모리에 모아두고, 넘는 순간 압축을 시작해서 그 뒤로는 흘려보냄 (내보내기 같은 큰 응답도 OK)
+// - 컨트롤러/리소스 핸들러가 Content-Length를 미리 알려주면 그걸로 바로 결정
+// - 압축한 응답의 강한 ETag는 약한 ETag(W/)로 바꿈 (바이트가 달라지니까) → If-None-Match 비교는 스프링이 약하게 해서 304는 그대로 동작
+// - 논블로킹 쓰기(setWriteListener)로 바꾸는 응답은 압축하지 않고 원래 스트림에 그대로 넘김
+//   (gzip은 쓸 때마다 원래 스트림에 블로킹으로 내려써서 isReady/onWritePossible 흐름을 지킬 수 없음)
+// br(Brotli)은 JDK에 인코더가 없어서 지원하지 않음 (gzip만)
+// 압축 전/후 바이트는 GET /metrics 의 http_compression_bytes_total{stage=} 로 나가요.
+public class CompressionFilter implements Filter {
+    private static final List<String> COMPRESSIBLE_TYPES = List.of(
+            "text/", "application/json", "application/x-ndjson", "application/javascript", "image/svg+xml");
+
+    private static final LongAdder bytesIn = Metrics.counter("http_compression_bytes_total", "stage", "uncompressed");
+    private static final LongAdder bytesOut = Metrics.counter("http_compression_bytes_total", "stage", "compressed");
+    private static final LongAdder skipped = Metrics.counter("http_compression_skipped_total");
+
+    private final int threshold;
+    private final int level;
+
+    public CompressionFilter(int threshold, int level) {
+        this.threshold = threshold;
+        this.level = level;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        if (!(request instanceof HttpServletRequest httpRequest) || !(response instanceof HttpServletResponse httpResponse)
+                || !acceptsGzip(httpRequest) || "HEAD".equals(httpRequest.getMethod())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        GzipResponse gzipResponse = new GzipResponse(httpResponse);
+        try {
+            chain.doFilter(request, gzipResponse);
+        } finally {
+            // 비동기 요청(CompletableFuture/Callable/StreamingResponseBody)은 여기서 아직 본문이 안 끝났음
+            // → 비동기 처리가 끝날 때 마무리 (스프링은 startAsync에 이 래퍼를 넘기므로 async 디스패치도 같은 래퍼에 씀)
+            if (httpRequest.isAsyncStarted()) {
+                httpRequest.getAsyncContext().addListener(new FinishOnComplete(gzipResponse));
+            } else {
+                gzipResponse.finish();
+            }
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String accept = request.getHeader("Accept-Encoding");
+        return accept != null && accept.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+
+    private record FinishOnComplete(GzipResponse response) implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) throws IOException {
+            response.finish();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this); // 다시 비동기로 넘어가면 다음 완료 때 마무리
+        }
+    }
+
+    private final class GzipResponse extends HttpServletResponseWrapper {
+        private final HttpServletResponse response;
+        private ByteArrayOutputStream pending = new ByteArrayOutputStream(256); // threshold 전까지 모아두는 곳
+        private OutputStream target;      // 결정이 난 뒤 쓰는 곳 (gzip 또는 원래 응답)
+        private GZIPOutputStream gzip;
+        private long uncompressed;
+        private long declaredLength = -1; // 핸들러가 알려준 Content-Length (압축하지 않기로 하면 그대로 전달)
+        private boolean decided;
+        private boolean finished;
+        private boolean nonBlocking; // setWriteListener가 불림 → 압축 없이 원래 스트림으로 그대로
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        GzipResponse(HttpServletResponse response) {
+            super(response);
+            this.response = response;
+        }
+
+        // ── 길이를 미리 알려주면 그걸로 바로 결정 ──
+        @Override
+        public void setContentLength(int length) {
+            setContentLengthLong(length);
+        }
+
+        @Override
+        public void setContentLengthLong(long length) {
+            declaredLength = length;
+            if (!decided && length >= 0 && length < threshold) {
+                decide(false);
+            }
+            if (decided && gzip == null) {
+                response.setContentLengthLong(length); // 압축하지 않을 때만 실제 길이를 전달
+            }
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if ("Content-Length".equalsIgnoreCase(name)) {
+                setContentLengthLong(value == null ? -1 : Long.parseLong(value));
+            } else {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if ("Content-Length".equalsIgnoreCase(name)) {
+                setHeader(name, value);
+            } else {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (outputStream == null) {
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        GzipResponse.this.write(new byte[]{(byte) b}, 0, 1);
+                    }
+
+                    @Override
+                    public void write(byte[] bytes, int offset, int length) throws IOException {
+                        GzipResponse.this.write(bytes, offset, length);
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        GzipResponse.this.flushStream();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return GzipResponse.this.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener listener) {
+                        GzipResponse.this.setWriteListener(listener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        // JSP는 getWriter()로 씀 → 응답 문자 인코딩(UTF-8)으로 바이트를 만들어 같은 흐름에 넣음
+        @Override
+        public PrintWriter getWriter() {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), Charset.forName(getCharacterEncoding())));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush(); // writer → outputStream.flush() → flushStream()
+            } else {
+                flushStream();
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+            if (!decided) {
+                pending.reset();
+            }
+            super.resetBuffer();
+        }
+
+        // 논블로킹 쓰기로 바꾸면 압축은 하지 않고 원래 스트림에 그대로 씀 (리스너도 원래 스트림에 등록)
+        // 보통 아무것도 쓰기 전에 부름. 모아둔 바이트가 있으면 리스너를 달기 전에(아직 블로킹일 때) 먼저 내보냄
+        private void setWriteListener(WriteListener listener) {
+            if (gzip != null) {
+                throw new IllegalStateException("response is already being compressed");
+            }
+            if (!decided) {
+                skipped.increment();
+                decide(false);
+            }
+            nonBlocking = true;
+            try {
+                response.getOutputStream().setWriteListener(listener);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private boolean isReady() {
+            if (!nonBlocking) {
+                return true; // 블로킹 쓰기: 언제든 쓸 수 있음
+            }
+            try {
+                return response.getOutputStream().isReady();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void write(byte[] bytes, int offset, int length) throws IOException {
+            uncompressed += length;
+            if (!decided) {
+                pending.write(bytes, offset, length);
+                if (pending.size() < threshold) {
+                    return;
+                }
+                decide(isCompressible());
+            }
+            target.write(bytes, offset, length);
+        }
+
+        // 스트리밍 응답(내보내기)이 flush하면 지금까지 모인 걸 보내야 하니 그 시점에 결정
+        // (finish()가 writer에 남은 글자를 내려보낼 때는 결정하지 않고 모아두기만 함)
+        private void flushStream() throws IOException {
+            if (!decided) {
+                if (finished || pending.size() == 0) {
+                    return;
+                }
+                decide(isCompressible());
+            }
+            target.flush();
+        }
+
+        private boolean isCompressible() {
+            if (response.isCommitted() || response.containsHeader("Content-Encoding")) {
+                return false;
+            }
+            String contentType = response.getContentType();
+            if (contentType == null) {
+                return false;
+            }
+            String type = contentType.toLowerCase(Locale.ROOT);
+            return COMPRESSIBLE_TYPES.stream().anyMatch(type::startsWith);
+        }
+
+        private void decide(boolean compress) {
+            decided = true;
+            try {
+                if (compress) {
+                    response.setHeader("Content-Encoding", "gzip");
+                    response.addHeader("Vary", "Accept-Encoding");
+                    String etag = response.getHeader("ETag");
+                    if (etag != null && !etag.startsWith("W/")) {
+                        response.setHeader("ETag", "W/" + etag);
+                    }
+                    OutputStream raw = new CountingOutputStream(response.getOutputStream());
+                    gzip = new GZIPOutputStream(raw, 8192, true) {
+                        {
+                            def.setLevel(level);
+                        }
+                    };
+                    target = gzip;
+                } else {
+                    if (uncompressed > 0) {
+                        skipped.increment();
+                    }
+                    if (declaredLength >= 0 && !response.isCommitted()) {
+                        response.setContentLengthLong(declaredLength);
+                    }
+                    target = response.getOutputStream();
+                }
+                if (pending.size() > 0) {
+                    pending.writeTo(target);
+                }
+                pending = null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        // 요청이 끝날 때 한 번: 남은 버퍼를 보내고 gzip 꼬리(trailer)를 씀
+        void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            if (writer != null) {
+                writer.flush();
+            }
+            if (!decided) {
+                // threshold를 못 넘은 작은 응답 → 압축 없이 길이와 함께 한 번에
+                if (pending.size() > 0 && !response.isCommitted()) {
+                    declaredLength = pending.size();
+                }
+                decide(false);
+            }
+            if (gzip != null) {
+                gzip.finish();
+                bytesIn.add(uncompressed);
+            }
+            if (!nonBlocking) {
+                target.flush(); // 논블로킹이면 쓰는 쪽이 isReady를 보며 이미 다 내보냈고, 나머지는 컨테이너가 마무리
+            }
+        }
+    }
+
+    // 압축 후 실제로 나간 바이트 수 세기
+    private static final class CountingOutputStream extends OutputStream {
+        private final OutputStream out;
+
+        CountingOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            bytesOut.increment();
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+            bytesOut.add(length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+    }
+}
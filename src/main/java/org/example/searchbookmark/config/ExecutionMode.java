@@ -0,0 +1,57 @@
+package org.example.searchbookmark.config;
+
+import org.example.searchbookmark.util.DotenvMixin;
+import org.example.searchbookmark.util.MyLogger;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 요청 처리/외부 HTTP 호출/DB 작업을 어떤 스레드에서 돌릴지 정하는 실행 모드
+// - PLATFORM: 지금까지처럼 OS 스레드 풀 (스레드 수 = APP_PLATFORM_THREADS)
+// - VIRTUAL : 작업마다 가상 스레드 하나 (자바 21 이상에서만 동작, 17에서는 PLATFORM으로 대체)
+// .env 의 EXECUTION_MODE=virtual 로 바꿀 수 있어요.
+public enum ExecutionMode implements DotenvMixin {
+    PLATFORM,
+    VIRTUAL;
+
+    private static final MyLogger logger = new MyLogger(ExecutionMode.class.getName());
+
+    public static ExecutionMode current() {
+        String mode = dotenv.get("EXECUTION_MODE", "platform").toUpperCase(Locale.ROOT);
+        if (VIRTUAL.name().equals(mode) && !virtualThreadsAvailable()) {
+            logger.error("EXECUTION_MODE=virtual 은 자바 21 이상이 필요해서 platform 모드로 실행합니다.");
+            return PLATFORM;
+        }
+        return VIRTUAL.name().equals(mode) ? VIRTUAL : PLATFORM;
+    }
+
+    // 이 모드에 맞는 ExecutorService를 만듦
+    // 프로젝트는 아직 자바 17로 컴파일하기 때문에 자바 21 API는 리플렉션으로 호출해요.
+    public ExecutorService newExecutor(String name) {
+        if (this == VIRTUAL) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("virtual thread executor is not available", e);
+            }
+        }
+        int threads = Integer.parseInt(dotenv.get("APP_PLATFORM_THREADS", "200"));
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "%s-%d".formatted(name, sequence.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static boolean virtualThreadsAvailable() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
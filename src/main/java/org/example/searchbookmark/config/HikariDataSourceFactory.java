@@ -0,0 +1,60 @@
+package org.example.searchbookmark.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.ibatis.datasource.DataSourceFactory;
+import org.example.searchbookmark.util.DotenvMixin;
+
+import javax.sql.DataSource;
+import java.util.Properties;
+
+// mybatis-config.xml 의 <dataSource type="..."> 에 넣어 쓰는 HikariCP 커넥션 풀
+// MyBatis 기본 POOLED 풀 대신 락 경합이 적은 HikariCP를 쓰고, 대기 시간 등을 PoolMetrics로 기록해요.
+// - XML에서 넘어오는 값: driver, url, username, password, poolMaximumActiveConnections
+// - 그 밖의 튜닝 값은 .env 에서 읽음 (POOLED 풀은 모르는 property가 있으면 에러를 내서 XML에 못 넣어요)
+public class HikariDataSourceFactory implements DataSourceFactory, DotenvMixin {
+    private HikariDataSource dataSource;
+
+    @Override
+    public void setProperties(Properties properties) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(properties.getProperty("poolName", "bookmark-primary"));
+        config.setDriverClassName(properties.getProperty("driver"));
+        config.setJdbcUrl(properties.getProperty("url"));
+        config.setUsername(properties.getProperty("username"));
+        config.setPassword(properties.getProperty("password"));
+
+        // 풀 크기: 최소 유휴 커넥션 ~ 최대 커넥션
+        config.setMaximumPoolSize(Integer.parseInt(properties.getProperty("poolMaximumActiveConnections", "10")));
+        config.setMinimumIdle(Integer.parseInt(dotenv.get("DB_POOL_MIN_IDLE", "2")));
+        // 커넥션을 이 시간 안에 못 받으면 SQLException (무한정 기다리지 않음)
+        config.setConnectionTimeout(Long.parseLong(dotenv.get("DB_POOL_CONNECTION_TIMEOUT_MS", "3000")));
+        // 커넥션 검증: JDBC4 isValid()로 확인하고, 유휴 커넥션은 주기적으로 살아있는지 확인
+        config.setValidationTimeout(Long.parseLong(dotenv.get("DB_POOL_VALIDATION_TIMEOUT_MS", "1000")));
+        config.setKeepaliveTime(Long.parseLong(dotenv.get("DB_POOL_KEEPALIVE_MS", "120000")));
+        config.setMaxLifetime(Long.parseLong(dotenv.get("DB_POOL_MAX_LIFETIME_MS", "1800000")));
+        // 커넥션을 빌려가서 이 시간 넘게 안 돌려주면 어디서 빌렸는지 스택트레이스를 로그로 남김 (0이면 끔)
+        config.setLeakDetectionThreshold(Long.parseLong(dotenv.get("DB_POOL_LEAK_DETECTION_MS", "10000")));
+
+        // PreparedStatement 캐시는 드라이버가 커넥션마다 해줘요 (HikariCP는 따로 캐시하지 않음)
+        String cacheSize = dotenv.get("DB_STATEMENT_CACHE_SIZE", "256");
+        String url = config.getJdbcUrl() == null ? "" : config.getJdbcUrl();
+        if (url.startsWith("jdbc:postgresql:")) {
+            config.addDataSourceProperty("preparedStatementCacheQueries", cacheSize);
+            config.addDataSourceProperty("prepareThreshold", "1");
+        } else if (url.startsWith("jdbc:mysql:")) {
+            config.addDataSourceProperty("cachePrepStmts", "true");
+            config.addDataSourceProperty("useServerPrepStmts", "true");
+            config.addDataSourceProperty("prepStmtCacheSize", cacheSize);
+            config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        }
+
+        config.setMetricsTrackerFactory(PoolMetrics.trackerFactory());
+        this.dataSource = new HikariDataSource(config);
+    }
+
+    @Override
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+}
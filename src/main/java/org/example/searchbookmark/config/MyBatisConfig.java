@@ -1,11 +1,19 @@
 package org.example.searchbookmark.config;
 
 import io.github.cdimascio.dotenv.Dotenv;
+import org.apache.ibatis.datasource.DataSourceFactory;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
 
+import javax.sql.DataSource;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.logging.Logger;
 
@@ -24,15 +32,15 @@ mybatis-config.xml 설정 파일을 로드해서
 MyBatis와 DB를 연결하는 설정을 초기화하는 역할을 합니다.
 즉, MyBatis를 쓰기 위한 기반 설정을 다 모아둔 클래스예요.
 
-[처음] MyBatisConfig.getSqlSessionFactory() 호출됨
+[처음] 스프링이 시작하면서 AppConfig.sqlSessionFactory() 빈을 만들 때 MyBatisConfig.build() 호출됨
    ↓
-[1] static 블록이 실행됨
+[1] build()가 실행됨
      - .env 로드
      - DB 설정 등록
      - mybatis-config.xml 읽음
      - SqlSessionFactory 생성
    ↓
-[2] SqlSessionFactory를 외부로 제공함
+[2] SqlSessionFactory가 스프링 빈으로 등록됨 (AppConfig에서 BookmarkMapper 빈도 만듦)
    ↓
 [3] 다른 코드에서 SqlSession을 열고 SQL 실행
      - Mapper(XML) 안의 SQL이 실행됨
@@ -44,14 +52,13 @@ SqlSession: MyBatis가 DB에 SQL을 실행할 수 있게 해주는 객체예요.
 // MyBatis 설정을 자바 코드로 구성한 클래스
 public class MyBatisConfig {
 
-    // MyBatis의 핵심 객체: SQL 세션을 생성하는 팩토리
-    private static final SqlSessionFactory sqlSessionFactory;
-
     // 로그 찍기용 Logger
     private static final Logger logger = Logger.getLogger(MyBatisConfig.class.getName());
 
-    // static 블록: 클래스가 처음 로딩될 때 한 번 실행됨
-    static {
+    // MyBatis의 핵심 객체(SQL 세션을 생성하는 팩토리)를 만듦
+    // 예전에는 static 블록에서 "처음 쓰일 때" 만들었는데, 그러면 첫 요청이 .env 로드 + XML 파싱 + 풀 생성을 다 떠안아서
+    // 지금은 AppConfig가 스프링 시작 시점에 한 번 불러 빈으로 등록해요.
+    public static SqlSessionFactory build() {
 
         // .env 파일을 불러와 환경변수 설정 (DB 정보 등)
         Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
@@ -62,6 +69,9 @@ public class MyBatisConfig {
         properties.setProperty("DB_URL", dotenv.get("DB_URL"));             // DB 주소
         properties.setProperty("DB_USERNAME", dotenv.get("DB_USERNAME"));   // DB 사용자 이름
         properties.setProperty("DB_PASSWORD", dotenv.get("DB_PASSWORD"));   // DB 비밀번호
+        properties.setProperty("DB_POOL_MAX_ACTIVE", dotenv.get("DB_POOL_MAX_ACTIVE", "10")); // 커넥션 풀 최대 크기
+        // 커넥션 풀 구현체: 기본은 HikariCP, DB_POOL_TYPE=POOLED 로 MyBatis 기본 풀로 되돌릴 수 있음
+        properties.setProperty("DB_POOL_TYPE", dotenv.get("DB_POOL_TYPE", HikariDataSourceFactory.class.getName()));
 
         // 환경변수 로딩 로그 출력
         logger.info("MyBatisConfig: " + properties);
@@ -69,6 +79,7 @@ public class MyBatisConfig {
         // MyBatis 설정 파일 경로
         String resource = "mybatis-config.xml";
 
+        SqlSessionFactory sqlSessionFactory;
         try (
             // 설정 파일을 InputStream으로 로드
             InputStream inputStream = MyBatisConfig.class.getClassLoader().getResourceAsStream(resource)
@@ -85,11 +96,48 @@ public class MyBatisConfig {
             throw new RuntimeException(e);
         }
 
+        // 읽기 복제본이 있으면 DataSource를 primary + 복제본 라우터로 바꿔 끼움
+        // DB_REPLICA_URLS=jdbc:postgresql://replica1/db,jdbc:postgresql://replica2/db (비어 있으면 primary만 씀)
+        List<String> replicaUrls = Arrays.stream(dotenv.get("DB_REPLICA_URLS", "").split(","))
+                .map(String::strip)
+                .filter(url -> !url.isEmpty())
+                .toList();
+        if (!replicaUrls.isEmpty()) {
+            installReplicas(sqlSessionFactory.getConfiguration(), properties, dotenv, replicaUrls);
+        }
+
         logger.info("config 완료");
+        return sqlSessionFactory;
     }
 
-    // 외부에서 SqlSessionFactory를 가져올 수 있도록 제공
-    public static SqlSessionFactory getSqlSessionFactory() {
-        return sqlSessionFactory;
+    // 복제본마다 primary와 같은 종류(DB_POOL_TYPE)의 커넥션 풀을 하나씩 만듦
+    private static void installReplicas(Configuration configuration, Properties properties, Dotenv dotenv, List<String> urls) {
+        Class<?> factoryType = configuration.getTypeAliasRegistry().resolveAlias(properties.getProperty("DB_POOL_TYPE"));
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            String name = "bookmark-replica-" + (i + 1);
+            Properties replica = new Properties();
+            replica.setProperty("driver", properties.getProperty("DB_DRIVER"));
+            replica.setProperty("url", urls.get(i));
+            replica.setProperty("username", dotenv.get("DB_REPLICA_USERNAME", properties.getProperty("DB_USERNAME")));
+            replica.setProperty("password", dotenv.get("DB_REPLICA_PASSWORD", properties.getProperty("DB_PASSWORD")));
+            replica.setProperty("poolMaximumActiveConnections",
+                    dotenv.get("DB_REPLICA_POOL_MAX_ACTIVE", properties.getProperty("DB_POOL_MAX_ACTIVE")));
+            if (factoryType == HikariDataSourceFactory.class) {
+                replica.setProperty("poolName", name); // POOLED 풀은 모르는 property를 넣으면 에러라서 Hikari일 때만
+            }
+            try {
+                DataSourceFactory factory = (DataSourceFactory) factoryType.getDeclaredConstructor().newInstance();
+                factory.setProperties(replica);
+                replicas.put(name, factory.getDataSource());
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        Environment environment = configuration.getEnvironment();
+        RoutingDataSource routing = new RoutingDataSource(environment.getDataSource(), replicas,
+                Long.parseLong(dotenv.get("DB_REPLICA_RETRY_MS", "5000")));
+        configuration.setEnvironment(new Environment(environment.getId(), environment.getTransactionFactory(), routing));
+        logger.info("MyBatisConfig: %d read replicas %s".formatted(replicas.size(), replicas.keySet()));
     }
 }
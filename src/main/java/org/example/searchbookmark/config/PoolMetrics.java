@@ -0,0 +1,126 @@
+package org.example.searchbookmark.config;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.IMetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.example.searchbookmark.util.LatencyHistogram;
+import org.example.searchbookmark.util.Metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 커넥션 풀 하나의 상태(사용 중/대기 중 커넥션 수)와 커넥션을 얻는 데 걸린 시간을 모아두는 곳
+// HikariCP가 커넥션을 빌려줄 때마다 아래 Tracker의 메서드를 불러줘요.
+// 풀은 MyBatis가 직접 만들기 때문에 스프링 빈 대신 풀 이름으로 찾을 수 있는 static 저장소에 등록해요.
+public class PoolMetrics {
+    private static final Map<String, PoolMetrics> registry = new ConcurrentHashMap<>();
+
+    private final String poolName;
+    private final PoolStats poolStats;
+    private final LatencyHistogram acquireLatency = new LatencyHistogram(); // getConnection() 대기 시간
+    private final LatencyHistogram usage = new LatencyHistogram();          // 커넥션을 빌려서 돌려주기까지 걸린 시간
+    private final LongAdder timeouts = new LongAdder();                     // connectionTimeout 안에 못 받은 횟수
+
+    // GET /metrics 에 db_pool_* {pool="..."} 로 나가는 이름들
+    private static final String[] GAUGES = {"db_pool_active", "db_pool_idle", "db_pool_pending", "db_pool_total", "db_pool_max"};
+
+    private PoolMetrics(String poolName, PoolStats poolStats) {
+        this.poolName = poolName;
+        this.poolStats = poolStats;
+    }
+
+    private void register() {
+        Metrics.register("db_pool_acquire_seconds", acquireLatency, "pool", poolName);
+        Metrics.register("db_pool_usage_seconds", usage, "pool", poolName);
+        Metrics.gauge("db_pool_timeouts", timeouts::sum, "pool", poolName);
+        Metrics.gauge(GAUGES[0], poolStats::getActiveConnections, "pool", poolName);
+        Metrics.gauge(GAUGES[1], poolStats::getIdleConnections, "pool", poolName);
+        Metrics.gauge(GAUGES[2], poolStats::getPendingThreads, "pool", poolName);
+        Metrics.gauge(GAUGES[3], poolStats::getTotalConnections, "pool", poolName);
+        Metrics.gauge(GAUGES[4], poolStats::getMaxConnections, "pool", poolName);
+    }
+
+    private void unregister() {
+        Metrics.unregister("db_pool_acquire_seconds", "pool", poolName);
+        Metrics.unregister("db_pool_usage_seconds", "pool", poolName);
+        Metrics.unregister("db_pool_timeouts", "pool", poolName);
+        for (String gauge : GAUGES) {
+            Metrics.unregister(gauge, "pool", poolName);
+        }
+    }
+
+    public static Map<String, PoolMetrics> all() {
+        return registry;
+    }
+
+    // HikariConfig.setMetricsTrackerFactory(...)에 넘겨주는 팩토리
+    public static IMetricsTrackerFactory trackerFactory() {
+        return (poolName, poolStats) -> {
+            PoolMetrics metrics = new PoolMetrics(poolName, poolStats);
+            registry.put(poolName, metrics);
+            metrics.register();
+            return new IMetricsTracker() {
+                @Override
+                public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                    metrics.acquireLatency.record(elapsedAcquiredNanos);
+                }
+
+                @Override
+                public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                    metrics.usage.record(elapsedBorrowedMillis * 1_000_000);
+                }
+
+                @Override
+                public void recordConnectionTimeout() {
+                    metrics.timeouts.increment();
+                }
+
+                @Override
+                public void close() {
+                    if (registry.remove(poolName, metrics)) {
+                        metrics.unregister();
+                    }
+                }
+            };
+        };
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("pool", poolName);
+        snapshot.put("active", poolStats.getActiveConnections());
+        snapshot.put("idle", poolStats.getIdleConnections());
+        snapshot.put("pending", poolStats.getPendingThreads());
+        snapshot.put("total", poolStats.getTotalConnections());
+        snapshot.put("max", poolStats.getMaxConnections());
+        snapshot.put("timeouts", timeouts.sum());
+        snapshot.put("acquireCount", acquireLatency.count());
+        snapshot.put("acquireP50Ms", acquireLatency.percentileMillis(0.50));
+        snapshot.put("acquireP99Ms", acquireLatency.percentileMillis(0.99));
+        snapshot.put("acquireMaxMs", acquireLatency.percentileMillis(1.0));
+        snapshot.put("usageP99Ms", usage.percentileMillis(0.99));
+        return snapshot;
+    }
+
+    public String poolName() {
+        return poolName;
+    }
+
+    public PoolStats poolStats() {
+        return poolStats;
+    }
+
+    public LatencyHistogram acquireLatency() {
+        return acquireLatency;
+    }
+
+    public LatencyHistogram usage() {
+        return usage;
+    }
+
+    public long timeouts() {
+        return timeouts.sum();
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.searchbookmark.config;
+
+import java.util.function.Supplier;
+
+// 지금 스레드에서 여는 DB 커넥션을 어디로 보낼지 정하는 표시 (RoutingDataSource가 읽음)
+// - readOnly(...) 안에서 연 커넥션: 복제본(replica)으로 갈 수 있음
+// - 그 밖의 커넥션: 항상 primary
+// - pinPrimary(true): 방금 북마크를 저장한 사용자 → readOnly 안이어도 primary (복제 지연 때문에 안 보이는 일 방지)
+// MyBatis는 세션에서 첫 SQL을 실행할 때 커넥션을 꺼내므로 세션을 여는 코드 전체를 readOnly로 감싸야 해요.
+public final class ReadRouting {
+    private static final ThreadLocal<Boolean> readOnly = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> primaryPinned = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    public static <T> T readOnly(Supplier<T> work) {
+        Boolean previous = readOnly.get();
+        readOnly.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                readOnly.remove();
+            } else {
+                readOnly.set(previous);
+            }
+        }
+    }
+
+    public static boolean isReadOnly() {
+        return Boolean.TRUE.equals(readOnly.get());
+    }
+
+    // ReadYourWritesInterceptor가 요청(과 그 요청의 Callable)이 시작될 때 켜고 끝날 때 끔
+    public static void pinPrimary(boolean pinned) {
+        if (pinned) {
+            primaryPinned.set(Boolean.TRUE);
+        } else {
+            primaryPinned.remove();
+        }
+    }
+
+    public static boolean isPrimaryPinned() {
+        return Boolean.TRUE.equals(primaryPinned.get());
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.searchbookmark.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.searchbookmark.util.DotenvMixin;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.Callable;
+
+// 방금 북마크를 저장한 사용자는 잠깐 동안 읽기도 primary에서 하게 하는 인터셉터 (read-your-writes)
+// 복제본은 primary보다 조금 늦게 따라오기 때문에, 저장 직후 /{uuid}로 리디렉트됐을 때
+// 복제본에서 읽으면 "없는 북마크"로 보일 수 있어요.
+// - 저장에 성공하면 MainController가 markWritten()으로 쿠키에 "이 시각까지 primary" 를 적어줌
+//   (쿠키라서 로드밸런서가 다른 서버로 보내도 똑같이 동작함)
+// - 요청이 들어올 때(톰캣 스레드)와 Callable이 실행될 때(실행기 스레드) 모두 쿠키를 보고 ReadRouting에 표시
+@Component
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor, CallableProcessingInterceptor, DotenvMixin {
+    private static final String COOKIE = "primary_until";
+
+    private final long windowMs;
+
+    public ReadYourWritesInterceptor() {
+        this.windowMs = Long.parseLong(dotenv.get("DB_READ_YOUR_WRITES_MS", "5000"));
+    }
+
+    public void markWritten(HttpServletResponse response) {
+        Cookie cookie = new Cookie(COOKIE, Long.toString(System.currentTimeMillis() + windowMs));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, (windowMs + 999) / 1000));
+        cookie.setAttribute("SameSite", "Lax");
+        response.addCookie(cookie);
+    }
+
+    private static boolean isPinned(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > System.currentTimeMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    // 톰캣 요청 스레드
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReadRouting.pinPrimary(isPinned(request));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReadRouting.pinPrimary(false);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReadRouting.pinPrimary(false);
+    }
+
+    // Callable을 실행하는 스레드 (WebConfig.configureAsyncSupport 에 등록)
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+        ReadRouting.pinPrimary(servletRequest != null && isPinned(servletRequest));
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        ReadRouting.pinPrimary(false);
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.searchbookmark.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.searchbookmark.service.WarmupService;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// 요청 하나가 들어와서 응답이 끝날 때까지 걸린 시간을 WarmupService에 알려줌 (배포 후 "첫 빠른 요청" 측정용)
+// 비동기 요청(CompletableFuture/Callable)은 결과가 나온 뒤 다시 디스패치되면서 preHandle이 한 번 더 불리므로
+// 처음 들어왔을 때의 시각만 남겨둠
+public class RequestTimingInterceptor implements HandlerInterceptor {
+    private static final String START_ATTRIBUTE = RequestTimingInterceptor.class.getName() + ".start";
+
+    private final WarmupService warmupService;
+
+    public RequestTimingInterceptor(WarmupService warmupService) {
+        this.warmupService = warmupService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (ex == null && response.getStatus() < 500 && request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+            warmupService.onRequestCompleted(System.nanoTime() - start);
+        }
+    }
+}
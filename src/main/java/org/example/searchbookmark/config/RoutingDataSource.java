@@ -0,0 +1,187 @@
+package org.example.searchbookmark.config;
+
+import org.example.searchbookmark.util.Metrics;
+import org.example.searchbookmark.util.MyLogger;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+// primary 하나 + 읽기 복제본(replica) 여러 개를 하나의 DataSource처럼 보이게 하는 라우터
+// MyBatisConfig가 mybatis-config.xml 의 DataSource(primary)를 이걸로 바꿔 끼워요.
+// - 쓰기, 또는 ReadRouting.readOnly 밖의 커넥션 → primary
+// - 읽기(ReadRouting.readOnly 안) → 살아 있는 복제본 중 "지금 빌려간 커넥션 수"가 가장 적은 곳
+//   (least outstanding requests: 느려진 복제본은 커넥션을 늦게 돌려주니까 자연스럽게 덜 받게 됨)
+// - 복제본에서 커넥션을 못 받으면 retryMs 동안 빼두고 다른 복제본 → 다 안 되면 primary
+// - 방금 쓴 사용자(ReadRouting.isPrimaryPinned)는 읽기도 primary
+// 결정 결과는 GET /metrics 의 db_route_total{target=,reason=} 과 db_replica_* 로 나가요.
+public class RoutingDataSource implements DataSource {
+    private static final MyLogger logger = new MyLogger(RoutingDataSource.class.getName());
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long retryMs;
+    // 빌려간 수가 같을 때 늘 첫 번째 복제본만 고르지 않도록 시작 위치를 돌려가며 봄
+    private final AtomicInteger nextStart = new AtomicInteger();
+
+    private final LongAdder primaryWrites = Metrics.counter("db_route_total", "target", "primary", "reason", "write");
+    private final LongAdder primaryPinned = Metrics.counter("db_route_total", "target", "primary", "reason", "read_your_writes");
+    private final LongAdder primaryFallback = Metrics.counter("db_route_total", "target", "primary", "reason", "no_healthy_replica");
+
+    private static final class Replica {
+        final String name;
+        final DataSource dataSource;
+        final AtomicInteger outstanding = new AtomicInteger();
+        final LongAdder routed;
+        final LongAdder failures;
+        volatile long unhealthyUntil;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.routed = Metrics.counter("db_route_total", "target", name, "reason", "read");
+            this.failures = Metrics.counter("db_replica_failures_total", "replica", name);
+            Metrics.gauge("db_replica_outstanding", outstanding::get, "replica", name);
+            Metrics.gauge("db_replica_healthy", () -> isHealthy(System.currentTimeMillis()) ? 1 : 0, "replica", name);
+        }
+
+        boolean isHealthy(long now) {
+            return unhealthyUntil <= now;
+        }
+    }
+
+    // replicas: 이름 → DataSource (이름은 메트릭 라벨로 씀)
+    public RoutingDataSource(DataSource primary, Map<String, DataSource> replicas, long retryMs) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream()
+                .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+                .toList();
+        this.retryMs = retryMs;
+    }
+
+    public DataSource primary() {
+        return primary;
+    }
+
+    public int replicaCount() {
+        return replicas.size();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!ReadRouting.isReadOnly()) {
+            primaryWrites.increment();
+            return primary.getConnection();
+        }
+        if (ReadRouting.isPrimaryPinned()) {
+            primaryPinned.increment();
+            return primary.getConnection();
+        }
+        // 살아 있는 복제본을 빌려간 수가 적은 순서로 시도
+        long now = System.currentTimeMillis();
+        int start = Math.floorMod(nextStart.getAndIncrement(), replicas.size());
+        boolean[] tried = new boolean[replicas.size()];
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica best = null;
+            int bestIndex = -1;
+            for (int offset = 0; offset < replicas.size(); offset++) {
+                int index = (start + offset) % replicas.size();
+                Replica candidate = replicas.get(index);
+                if (tried[index] || !candidate.isHealthy(now)) {
+                    continue;
+                }
+                if (best == null || candidate.outstanding.get() < best.outstanding.get()) {
+                    best = candidate;
+                    bestIndex = index;
+                }
+            }
+            if (best == null) {
+                break;
+            }
+            tried[bestIndex] = true;
+            best.outstanding.incrementAndGet();
+            try {
+                Connection connection = best.dataSource.getConnection();
+                best.routed.increment();
+                return track(connection, best);
+            } catch (SQLException | RuntimeException e) {
+                best.outstanding.decrementAndGet();
+                best.failures.increment();
+                best.unhealthyUntil = now + retryMs;
+                Replica failed = best;
+                logger.error(() -> "replica %s unavailable for %d ms: %s".formatted(failed.name, retryMs, e));
+            }
+        }
+        primaryFallback.increment();
+        return primary.getConnection();
+    }
+
+    // 커넥션을 돌려줄 때(close) 복제본의 빌려간 수를 줄이도록 감쌈
+    private static Connection track(Connection connection, Replica replica) {
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                        replica.outstanding.decrementAndGet();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return primary.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        primary.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        primary.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return primary.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return primary.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.searchbookmark.config;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.example.searchbookmark.util.LatencyHistogram;
+import org.example.searchbookmark.util.Metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// MyBatis 플러그인: mapper 문장(insertBookmark, getOneBookmark ...)마다 실행 시간을 잰다
+// mybatis-config.xml 의 <plugins> 에 등록돼 있어서, SQL이 실행될 때마다 MyBatis가 이 intercept()를 거쳐 가요.
+// - mybatis_statement_seconds{statement="BookmarkMapper.getOneBookmark"}
+// - mybatis_statement_errors_total{statement="..."}
+// BATCH 실행기에서는 update()가 SQL을 모아두기만 하므로 flushStatements() 시간은 여기 잡히지 않음
+// Cursor를 돌려주는 문장은 커서를 여는 데까지만 잼 (행을 읽는 시간은 호출하는 쪽 몫)
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "queryCursor",
+                args = {MappedStatement.class, Object.class, RowBounds.class})
+})
+public class StatementMetricsInterceptor implements Interceptor {
+    private record StatementMetrics(LatencyHistogram latency, LongAdder errors) {}
+
+    // 문장 id → 메트릭 (한 번 만들고 나면 요청마다 라벨 문자열을 만들지 않음)
+    private final Map<String, StatementMetrics> byStatement = new ConcurrentHashMap<>();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        StatementMetrics metrics = byStatement.computeIfAbsent(statement.getId(), StatementMetricsInterceptor::metricsFor);
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            metrics.errors().increment();
+            throw e;
+        } finally {
+            metrics.latency().recordSince(start);
+        }
+    }
+
+    // "org.example.searchbookmark.model.mapper.BookmarkMapper.getOneBookmark" → "BookmarkMapper.getOneBookmark"
+    private static StatementMetrics metricsFor(String id) {
+        int method = id.lastIndexOf('.');
+        int mapper = method > 0 ? id.lastIndexOf('.', method - 1) : -1;
+        String name = id.substring(mapper + 1);
+        return new StatementMetrics(
+                Metrics.timer("mybatis_statement_seconds", "statement", name),
+                Metrics.counter("mybatis_statement_errors_total", "statement", name));
+    }
+}
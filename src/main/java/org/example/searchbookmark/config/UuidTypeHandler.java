@@ -0,0 +1,94 @@
+package org.example.searchbookmark.config;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedJdbcTypes;
+import org.apache.ibatis.type.MappedTypes;
+import org.example.searchbookmark.util.UuidV7;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+// java.util.UUID ↔ bookmark_id 컬럼 변환 (mybatis-config.xml 의 typeHandlers에 등록)
+// - PostgreSQL uuid 컬럼: 드라이버가 UUID 객체를 그대로 주고받음 (16바이트로 전송, 문자열 변환 없음)
+// - MySQL binary(16) 컬럼: 16바이트 배열로 변환 (mapper에서 #{..., jdbcType=BINARY} 로 지정)
+// - 예전 varchar 컬럼도 읽을 수 있도록 문자열이 오면 파싱함
+@MappedTypes(UUID.class)
+@MappedJdbcTypes(value = {JdbcType.OTHER, JdbcType.BINARY}, includeNullJdbcType = true)
+public class UuidTypeHandler extends BaseTypeHandler<UUID> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, UUID parameter, JdbcType jdbcType) throws SQLException {
+        if (jdbcType == JdbcType.BINARY) {
+            ps.setBytes(i, UuidV7.toBytes(parameter));
+        } else {
+            ps.setObject(i, parameter);
+        }
+    }
+
+    @Override
+    public UUID getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return toUuid(rs.getObject(columnName));
+    }
+
+    @Override
+    public UUID getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return toUuid(rs.getObject(columnIndex));
+    }
+
+    @Override
+    public UUID getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return toUuid(cs.getObject(columnIndex));
+    }
+
+    private static UUID toUuid(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof UUID uuid) {
+            return uuid;
+        }
+        if (value instanceof byte[] bytes) {
+            return UuidV7.fromBytes(bytes);
+        }
+        return UUID.fromString(value.toString());
+    }
+
+    // KeywordSearch처럼 uuid를 문자열로 들고 있는 VO용 (resultMap의 typeHandler로 지정)
+    // 컬럼은 위와 똑같이 읽고 표준 문자열 형태(8-4-4-4-12)로 바꿔줌
+    public static class AsString extends BaseTypeHandler<String> {
+
+        @Override
+        public void setNonNullParameter(PreparedStatement ps, int i, String parameter, JdbcType jdbcType) throws SQLException {
+            UUID uuid = UUID.fromString(parameter);
+            if (jdbcType == JdbcType.BINARY) {
+                ps.setBytes(i, UuidV7.toBytes(uuid));
+            } else {
+                ps.setObject(i, uuid);
+            }
+        }
+
+        @Override
+        public String getNullableResult(ResultSet rs, String columnName) throws SQLException {
+            return toText(rs.getObject(columnName));
+        }
+
+        @Override
+        public String getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+            return toText(rs.getObject(columnIndex));
+        }
+
+        @Override
+        public String getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+            return toText(cs.getObject(columnIndex));
+        }
+
+        private static String toText(Object value) {
+            UUID uuid = toUuid(value);
+            return uuid == null ? null : uuid.toString();
+        }
+    }
+}
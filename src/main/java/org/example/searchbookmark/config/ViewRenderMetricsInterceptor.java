@@ -0,0 +1,47 @@
+package org.example.searchbookmark.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.searchbookmark.util.LatencyHistogram;
+import org.example.searchbookmark.util.Metrics;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// JSP 렌더링 시간 측정: postHandle(컨트롤러 끝, 렌더링 직전) ~ afterCompletion(렌더링 끝)
+// 비동기 핸들러(CompletableFuture/Callable)는 결과가 나온 뒤 다시 디스패치될 때 postHandle이 불리므로 똑같이 잡혀요.
+// - jsp_render_seconds{view="index"}
+// - http_errors_total{status="5xx"} : 렌더링/핸들러 예외 또는 5xx/4xx 응답 수
+public class ViewRenderMetricsInterceptor implements HandlerInterceptor {
+    private static final String VIEW_ATTRIBUTE = ViewRenderMetricsInterceptor.class.getName() + ".view";
+    private static final String START_ATTRIBUTE = ViewRenderMetricsInterceptor.class.getName() + ".start";
+
+    private final Map<String, LatencyHistogram> byView = new ConcurrentHashMap<>();
+    private final LongAdder clientErrors = Metrics.counter("http_errors_total", "status", "4xx");
+    private final LongAdder serverErrors = Metrics.counter("http_errors_total", "status", "5xx");
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        // redirect:, @ResponseBody, 304 처럼 뷰를 그리지 않는 응답은 건너뜀
+        if (modelAndView != null && modelAndView.getViewName() != null && !modelAndView.getViewName().startsWith("redirect:")) {
+            request.setAttribute(VIEW_ATTRIBUTE, modelAndView.getViewName());
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(VIEW_ATTRIBUTE) instanceof String view && request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+            byView.computeIfAbsent(view, name -> Metrics.timer("jsp_render_seconds", "view", name)).recordSince(start);
+        }
+        if (ex != null || response.getStatus() >= 500) {
+            serverErrors.increment();
+        } else if (response.getStatus() >= 400) {
+            clientErrors.increment();
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package org.example.searchbookmark.config;
 
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterRegistration;
 import jakarta.servlet.ServletContext;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRegistration;
 import org.springframework.web.WebApplicationInitializer;
 import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.example.searchbookmark.util.DotenvMixin;
 import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+
+import java.util.EnumSet;
 
 ```
 WebAppInitializer는 톰캣이 켜질 때
@@ -30,7 +36,7 @@ context.register(org.example.searchbookmark.config.AppConfig.class);의 동작 
 ```
 
 // 웹 프로젝트가 시작될 때 처음 실행되는 클래스
-public class WebAppInitializer implements WebApplicationInitializer {
+public class WebAppInitializer implements WebApplicationInitializer, DotenvMixin {
 
     @Override
     public void onStartup(ServletContext servletContext) throws ServletException {
@@ -58,5 +64,21 @@ public class WebAppInitializer implements WebApplicationInitializer {
 
         // 모든 주소 요청("/")은 이 서블릿이 처리하게 설정
         registration.addMapping("/");
+
+        // 컨트롤러가 CompletableFuture를 돌려줄 때 요청을 비동기로 처리할 수 있게 허용
+        // (이게 없으면 네이버 응답을 기다리는 동안 톰캣 스레드를 계속 붙잡고 있게 돼요)
+        registration.setAsyncSupported(true);
+
+        // 응답 압축: HTML/CSS/JSON 본문이 HTTP_GZIP_MIN_BYTES 보다 크면 gzip (레벨은 CPU와 크기의 타협, 1~9)
+        FilterRegistration.Dynamic compression = servletContext.addFilter("compressionFilter", new CompressionFilter(
+                Integer.parseInt(dotenv.get("HTTP_GZIP_MIN_BYTES", "1024")),
+                Integer.parseInt(dotenv.get("HTTP_GZIP_LEVEL", "5"))));
+        compression.setAsyncSupported(true);
+        compression.addMappingForUrlPatterns(EnumSet.of(DispatcherType.REQUEST), false, "/*");
+
+        // JSP의 response.encodeURL("/asset/site.css")를 내용 해시가 붙은 주소로 바꿔줌 (WebConfig.addResourceHandlers)
+        FilterRegistration.Dynamic resourceUrls = servletContext.addFilter("resourceUrlEncodingFilter", new ResourceUrlEncodingFilter());
+        resourceUrls.setAsyncSupported(true);
+        resourceUrls.addMappingForUrlPatterns(EnumSet.of(DispatcherType.REQUEST), false, "/*");
     }
 }
@@ -1,13 +1,23 @@
 package org.example.searchbookmark.config;
 
+import org.example.searchbookmark.service.WarmupService;
+import org.example.searchbookmark.util.DotenvMixin;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
 import org.springframework.web.servlet.ViewResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 import org.springframework.web.servlet.view.InternalResourceViewResolver;
 
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
 // WebConfig는 **“Spring MVC 기능을 사용하기 위한 설정”**이에요.
 // 📌 즉, JSP 뷰 설정, 정적 파일(css, js, 이미지 등) 위치, 이런 웹 쪽 전용 설정은
 // AppConfig가 아닌 WebConfig에서 따로 해줘야 해요.
@@ -24,7 +34,21 @@ WebConfig   	"뷰(JSP) 설정, 정적 리소스(css, js 등) 설정" → 웹 화
 
 @Configuration
 @EnableWebMvc // Spring MVC 기능들을 사용하겠다고 선언하는 어노테이션. DispatcherServlet이 요청을 받아서 컨트롤러로 넘기고, 뷰를 렌더링하는 과정을 작동시켜줌
-public class WebConfig implements WebMvcConfigurer {
+public class WebConfig implements WebMvcConfigurer, DotenvMixin {
+
+    // AppConfig에서 만든 실행기 (EXECUTION_MODE에 따라 OS 스레드 풀 또는 가상 스레드)
+    private final ExecutorService applicationExecutor;
+    // 북마크를 저장한 직후의 읽기를 primary로 보내는 인터셉터 (요청 스레드 + Callable 스레드 둘 다 등록)
+    private final ReadYourWritesInterceptor readYourWritesInterceptor;
+    // 배포 후 처음으로 빠르게 끝난 요청을 기록 (RequestTimingInterceptor)
+    private final WarmupService warmupService;
+
+    public WebConfig(ExecutorService applicationExecutor, ReadYourWritesInterceptor readYourWritesInterceptor,
+                     WarmupService warmupService) {
+        this.applicationExecutor = applicationExecutor;
+        this.readYourWritesInterceptor = readYourWritesInterceptor;
+        this.warmupService = warmupService;
+    }
 
     @Bean
     // 컨트롤러에서 return "index"라고 했을 때
@@ -40,10 +64,41 @@ public class WebConfig implements WebMvcConfigurer {
     // /asset/style.css 같은 요청이 들어오면
     // 실제로 /webapp/asset/style.css 파일을 찾아보도록 설정해주는 부분이에요.
     // 즉, 정적 파일이 컨트롤러를 거치지 않고 바로 응답될 수 있도록 처리해줘요.
+    // - 주소에 파일 내용 해시를 붙임: JSP의 response.encodeURL("/asset/site.css") → /asset/site-<해시>.css
+    //   (WebAppInitializer의 ResourceUrlEncodingFilter가 바꿔줌)
+    // - 내용이 바뀌면 주소도 바뀌니까 브라우저가 1년 동안 다시 묻지도 않고 캐시에서 씀 (immutable)
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         registry.addResourceHandler("/asset/**")
-                .addResourceLocations("/asset/"); // 또는 "classpath:/static/asset/"
+                .addResourceLocations("/asset/") // 또는 "classpath:/static/asset/"
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+
+    // 비동기 요청(CompletableFuture 반환)이 끝날 때까지 기다려주는 최대 시간
+    // 이 시간이 지나면 스프링이 요청을 타임아웃(503)으로 끝내요.
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(Long.parseLong(dotenv.get("MVC_ASYNC_TIMEOUT_MS", "5000")));
+        // 컨트롤러가 Callable을 돌려주면 그 작업은 이 실행기에서 돌아가요.
+        // 참고: 톰캣 요청 스레드 자체를 가상 스레드로 바꾸려면 server.xml Connector에 useVirtualThreads="true" (톰캣 10.1.25+ / 자바 21)
+        configurer.setTaskExecutor(new ConcurrentTaskExecutor(applicationExecutor));
+        // Callable은 다른 스레드에서 돌기 때문에 ReadRouting 표시를 그 스레드에서 다시 해줘야 함
+        configurer.registerCallableInterceptors(readYourWritesInterceptor);
+    }
+
+    // 북마크 내보내기는 테이블 크기만큼 오래 걸리므로 타임아웃을 따로 줌 (0 = 무제한)
+    // JSP 렌더링 시간/HTTP 오류 수는 모든 요청에서 잼 (GET /metrics)
+    // 첫 빠른 요청 측정에서는 원래 빠른 운영용 주소(/ready, /metrics)는 뺌
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestTimingInterceptor(warmupService))
+                .excludePathPatterns("/ready", "/metrics", "/metrics/**");
+        registry.addInterceptor(new ViewRenderMetricsInterceptor());
+        registry.addInterceptor(readYourWritesInterceptor);
+        registry.addInterceptor(new AsyncTimeoutInterceptor(Long.parseLong(dotenv.get("EXPORT_TIMEOUT_MS", "3600000"))))
+                .addPathPatterns("/bookmarks/export");
     }
 }
 
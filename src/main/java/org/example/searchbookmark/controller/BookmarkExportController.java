@@ -0,0 +1,152 @@
+package org.example.searchbookmark.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.example.searchbookmark.model.vo.KeywordSearch;
+import org.example.searchbookmark.service.BookmarkService;
+import org.example.searchbookmark.util.BookmarkExportFormat;
+import org.example.searchbookmark.util.MyLogger;
+import org.example.searchbookmark.util.ObjectMapperMixin;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+// 북마크 전체 내보내기 (CSV / NDJSON 파일 다운로드)
+// 예: /bookmarks/export?format=csv, /bookmarks/export?format=ndjson
+// 내보낸 NDJSON 파일은 POST /bookmarks/import 로 다시 가져올 수 있음 (다른 서버로 옮기기, 백업 복원)
+@Controller
+public class BookmarkExportController implements ObjectMapperMixin {
+    private final MyLogger logger = new MyLogger(this.getClass().getSimpleName());
+
+    // 이 행 수마다 한 번씩 flush → 클라이언트는 다운로드가 바로 시작되고, 서버 버퍼도 일정하게 유지됨
+    private static final int FLUSH_EVERY = 500;
+    // 가져오기 한 번에 받는 최대 줄 수 (전부 메모리에 올린 뒤 한 트랜잭션으로 저장하므로)
+    private static final int MAX_IMPORT_ROWS = 10_000;
+
+    private final BookmarkService bookmarkService;
+
+    public BookmarkExportController(BookmarkService bookmarkService) {
+        this.bookmarkService = bookmarkService;
+    }
+
+    // StreamingResponseBody: 응답 본문을 나중에 "흘려보내는" 방식
+    // - writeTo는 톰캣 요청 스레드가 아니라 비동기 실행기(WebConfig.configureAsyncSupport)에서 돌아감
+    //   → DB를 기다리는 동안 요청 스레드를 붙잡고 있지 않음
+    // - Content-Length 없이 쓰기 때문에 chunked 전송으로 행이 준비되는 대로 나감
+    // - DB 커서(BookmarkService.exportBookmarks)에서 한 행 읽고 → 바로 쓰기 → 메모리 사용량이 테이블 크기와 무관
+    @GetMapping("/bookmarks/export")
+    public ResponseEntity<StreamingResponseBody> export(
+        @RequestParam(value = "format", defaultValue = "csv")
+        String format
+        ) {
+        BookmarkExportFormat exportFormat = parseFormat(format);
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            exportFormat.writeHeader(writer);
+            long[] rows = {0};
+            try {
+                bookmarkService.exportBookmarks(bookmark -> {
+                    try {
+                        exportFormat.writeRow(writer, bookmark);
+                        if (++rows[0] % FLUSH_EVERY == 0) {
+                            writer.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e); // 클라이언트가 다운로드를 끊은 경우 등 → 커서도 같이 닫힘
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                logger.error("bookmark export aborted after %d rows: %s".formatted(rows[0], e.getCause()));
+                throw e.getCause();
+            }
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("bookmarks." + exportFormat.extension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    // 북마크 가져오기: 내보내기(format=ndjson) 파일을 그대로 올림
+    // 예: curl -X POST -H 'Content-Type: application/x-ndjson' --data-binary @bookmarks.ndjson .../bookmarks/import
+    // - 한 줄에 북마크 하나, 빈 줄은 건너뜀. uuid/createdAt은 무시하고 새 id로 저장
+    // - 전부 읽고 검사한 뒤 BookmarkService.importBookmarks로 한 트랜잭션에 저장
+    //   (한 줄이라도 잘못되면 400, 아무것도 저장하지 않음 / MAX_IMPORT_ROWS줄이 넘으면 413)
+    // 응답: 새 북마크 id 목록 (JSON, 파일의 줄 순서대로)
+    @PostMapping(value = "/bookmarks/import", consumes = "application/x-ndjson")
+    @ResponseBody
+    public Callable<List<String>> importBookmarks(InputStream body) throws IOException {
+        List<KeywordSearch> bookmarks = readNdjson(body);
+        return () -> {
+            if (bookmarks.isEmpty()) {
+                return List.of();
+            }
+            List<String> ids = bookmarkService.importBookmarks(bookmarks);
+            logger.info(() -> "%d bookmarks imported".formatted(ids.size()));
+            return ids;
+        };
+    }
+
+    private static List<KeywordSearch> readNdjson(InputStream body) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        List<KeywordSearch> bookmarks = new ArrayList<>();
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (bookmarks.size() == MAX_IMPORT_ROWS) {
+                throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                        "at most %d bookmarks per import".formatted(MAX_IMPORT_ROWS));
+            }
+            KeywordSearch bookmark;
+            try {
+                bookmark = objectMapper.readValue(line, KeywordSearch.class);
+            } catch (JsonProcessingException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "line %d: invalid JSON".formatted(lineNumber), e);
+            }
+            // DB 컬럼이 모두 not null
+            if (bookmark.title() == null || bookmark.link() == null || bookmark.description() == null || bookmark.date() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "line %d: title, link, description and date are required".formatted(lineNumber));
+            }
+            bookmarks.add(bookmark);
+        }
+        return bookmarks;
+    }
+
+    private static BookmarkExportFormat parseFormat(String format) {
+        try {
+            return BookmarkExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "unsupported format: " + format, e);
+        }
+    }
+}
@@ -1,36 +1,70 @@
 package org.example.searchbookmark.controller;
 
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.searchbookmark.config.ReadYourWritesInterceptor;
+import org.example.searchbookmark.model.vo.BookmarkCursor;
+import org.example.searchbookmark.model.vo.BookmarkPage;
 import org.example.searchbookmark.model.vo.KeywordSearch;
+import org.example.searchbookmark.service.BookmarkSearchService;
 import org.example.searchbookmark.service.BookmarkService;
+import org.example.searchbookmark.service.SearchResultStore;
 import org.example.searchbookmark.service.SearchService;
+import org.example.searchbookmark.util.BuildInfo;
 import org.example.searchbookmark.util.MyLogger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 //@RequestMapping("/") // 이런 경우는 생략해도 무방함
 public class MainController {
     final private MyLogger logger = new MyLogger(this.getClass().getSimpleName());
 
+    // 뷰 버전: 새로 배포해서 bookmark.jsp가 바뀌면 예전 ETag가 더 이상 맞지 않게 하려고 ETag에 섞음
+    // 서버 기동 시각이 아니라 빌드 정보라서 로드밸런서 뒤의 서버들끼리, 재시작 전후로도 같은 ETag가 나옴
+    private static final String VIEW_VERSION = BuildInfo.version();
+    private static final String BOOKMARK_CACHE_CONTROL = "public, max-age=300";
+    private static final int MAX_PAGE_SIZE = 100;
+
     // 멤버변수
     private final SearchService searchService;
     private final BookmarkService bookmarkService;
     // 구별을 굳이 안해도 돼 -> 1:1 대응이 되니까
+    private final SearchResultStore resultStore;
+    // 저장된 북마크 안에서 찾는 검색 (메모리 색인)
+    private final BookmarkSearchService bookmarkSearchService;
+    // 저장 직후 잠깐 동안 이 사용자의 읽기를 primary DB로 보내도록 쿠키를 남김
+    private final ReadYourWritesInterceptor readYourWrites;
 
     // 생성자 주입 -> 의존성 주입을 한 타입은? SearchService
-    public MainController(SearchService searchService, BookmarkService bookmarkService) {
+    public MainController(SearchService searchService, BookmarkService bookmarkService, SearchResultStore resultStore,
+                          BookmarkSearchService bookmarkSearchService, ReadYourWritesInterceptor readYourWrites) {
         this.searchService = searchService;
         this.bookmarkService = bookmarkService;
+        this.resultStore = resultStore;
+        this.bookmarkSearchService = bookmarkSearchService;
+        this.readYourWrites = readYourWrites;
     }
 
     @GetMapping // 클라이언트가 GET 방식으로 "/index" 같은 주소에 접근했을 때 실행되는 메서드
-    public String index(Model model, // JSP로 데이터를 넘기기 위한 객체
+    // CompletableFuture<String>을 돌려주면 스프링이 요청을 "비동기 모드"로 바꿔요.
+    // → 네이버 응답을 기다리는 동안 톰캣 요청 스레드는 반납되고, 결과가 오면 그때 뷰(index.jsp)를 그림
+    public CompletableFuture<String> index(Model model, // JSP로 데이터를 넘기기 위한 객체
 
      // Model은 JSP로 값을 넘기기 위한 Spring이 자동으로 넣어주는 데이터 상자예요!
      // addAttribute("이름", 값)을 넣어주면
@@ -42,55 +76,182 @@ public class MainController {
     
     @RequestParam(value = "keyword",
             required = false) 
-    String keyword, HttpSession session // 현재 로그인한 사용자나 방문자의 정보를 저장하는 세션 객체 (쿠키랑 연결됨)
-    ) throws Exception { // "이 메서드 안에서 예외(Exception)가 발생할 수 있어요" 라고 컴파일러에게 알려주는 거
-        logger.info(keyword);  // 로그에 사용자가 검색한 keyword를 출력 (서버 콘솔 확인용)
+    String keyword
+    ) {
+        logger.info(() -> "keyword: " + keyword);  // 로그에 사용자가 검색한 keyword를 출력 (서버 콘솔 확인용, INFO가 꺼져 있으면 문자열도 안 만듦)
         if (keyword == null) { // keyword가 아예 없는 경우 (검색하지 않고 그냥 페이지 들어왔을 때)
-            return "index";  // 검색 없이 그냥 index.jsp를 보여줌
-        }
-        List<KeywordSearch> result = searchService.searchByKeyword(keyword); // keyword가 있는 경우, 그 키워드로 검색을 수행함
-        Map<String, KeywordSearch> map = new HashMap<>();
-        for (KeywordSearch keywordSearch : result) {
-            map.put(keywordSearch.uuid(), keywordSearch); // 검색 결과를 (uuid → 해당 결과) 형태의 Map으로 저장
+            return CompletableFuture.completedFuture("index");  // 검색 없이 그냥 index.jsp를 보여줌
         }
-        // 검색 결과 Map을 세션에 저장해둠 (브라우저 닫기 전까지 유지됨)
-        // 다음에 다시 접근할 때 DB를 다시 조회하지 않고 이걸 쓸 수 있음 (캐싱처럼)
-        session.setAttribute("temp", map); 
-         // 검색 결과 리스트를 JSP에 넘겨줌 (JSP에서 ${result}로 접근 가능)
-        model.addAttribute("result", result);
-        // 검색 결과를 포함한 index.jsp를 보여줌
-        return "index";
+        // keyword가 있는 경우, 그 키워드로 검색을 수행함 (결과는 나중에 thenApply 안으로 들어옴)
+        return searchService.searchByKeywordAsync(keyword).thenApply(result -> {
+            // 검색 결과를 (uuid → 해당 결과) 형태로 공용 저장소에 저장해둠 (RESULT_STORE_TTL_MS 동안 유지됨)
+            // 세션에 넣지 않기 때문에 세션이 커지지 않아요.
+            // 다른 서버로 간 북마크 요청에서도 찾으려면 RESULT_STORE=db (memory/file은 이 서버에만 있어서 sticky session 필요)
+            resultStore.putAll(result);
+            // 검색 결과 리스트를 JSP에 넘겨줌 (JSP에서 ${result}로 접근 가능)
+            model.addAttribute("result", result);
+            // 검색 결과를 포함한 index.jsp를 보여줌
+            return "index";
+        });
     }
 
+    // DB 작업이 있는 핸들러는 Callable을 돌려줌
+    // → 실제 DB 작업은 AppConfig의 실행기(EXECUTION_MODE에 따라 OS 스레드 또는 가상 스레드)에서 실행돼요.
     @PostMapping("/bookmark") // 사용자가 북마크 버튼을 눌렀을 때 (POST 요청으로 "/bookmark"로 들어올 때 실행됨)
-    public String bookmark(
+    public Callable<String> bookmark(
         // 사용자가 북마크할 항목의 uuid를 요청 파라미터로 받음 (예: uuid=abc123)
         @RequestParam("uuid") 
         String uuid, 
         Model model, // JSP로 값 넘길 때 사용할 수 있는 모델 객체 
-        HttpSession session // 사용자 세션에서 캐시된 검색 결과를 꺼내기 위해 사용
-        ) throws Exception {
-         // 세션에 저장된 검색 결과 map 꺼내기 (uuid → KeywordSearch 객체)
-         Map<String, KeywordSearch> temp = (HashMap<String, KeywordSearch>) session.getAttribute("temp");
-        // 해당 uuid의 검색 결과를 기반으로 북마크 생성 (서비스에서 처리)
-        String resultID = bookmarkService.createBookmark(temp.get(uuid));
-        // 북마크가 성공적으로 생성되면, 그 결과 uuid로 이동 (리디렉션)
-        return "redirect:/%s".formatted(resultID); 
+        HttpServletResponse response
+        ) {
+        // 저장소에 보관된 검색 결과 꺼내기 (uuid → KeywordSearch 객체)
+        KeywordSearch selected = resultStore.get(uuid);
+        if (selected == null) {
+            // 검색한 지 오래되어 결과가 만료된 경우
+            throw new ResponseStatusException(HttpStatus.GONE);
+        }
+        return () -> {
+            // 해당 uuid의 검색 결과를 기반으로 북마크 생성 (서비스에서 처리)
+            String resultID = bookmarkService.createBookmark(selected);
+            // 바로 이어지는 /{uuid} 조회가 아직 복제되지 않은 복제본으로 가지 않도록
+            readYourWrites.markWritten(response);
+            // 북마크가 성공적으로 생성되면, 그 결과 uuid로 이동 (리디렉션)
+            return "redirect:/%s".formatted(resultID);
+        };
+    }
+
+    // 검색 결과 여러 개를 한 번에 북마크 (예: uuid=a&uuid=b&uuid=c)
+    // 응답: 생성된 북마크 id 목록 (JSON, 요청한 순서대로)
+    @PostMapping("/bookmarks")
+    @ResponseBody
+    public Callable<List<String>> bookmarks(
+        @RequestParam("uuid")
+        List<String> uuids,
+        HttpServletResponse response
+        ) {
+        // 저장소에 없는(만료되었거나 잘못된) uuid는 건너뜀
+        List<KeywordSearch> selected = uuids.stream()
+                .map(resultStore::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return () -> {
+            if (selected.isEmpty()) {
+                return List.of();
+            }
+            List<String> ids = bookmarkService.createBookmarks(selected);
+            readYourWrites.markWritten(response);
+            return ids;
+        };
+    }
+
+    // 저장된 북마크 목록 (최신순, 한 페이지씩)
+    // 첫 페이지: /bookmarks, 다음 페이지: /bookmarks?after=<이전 응답의 next>
+    // 브라우저로 열면 bookmarks.jsp, Accept: application/json 으로 부르면 같은 내용을 JSON으로 돌려줌
+    @GetMapping("/bookmarks")
+    public Callable<String> bookmarkList(
+        @RequestParam(value = "after", required = false)
+        String after,
+        @RequestParam(value = "size", defaultValue = "20")
+        int size,
+        Model model
+        ) {
+        BookmarkCursor cursor = parseCursor(after);
+        int limit = pageSize(size);
+        return () -> {
+            model.addAttribute("page", bookmarkService.listBookmarks(cursor, limit));
+            return "bookmarks";
+        };
+    }
+
+    @GetMapping(value = "/bookmarks", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public Callable<BookmarkPage> bookmarkListJson(
+        @RequestParam(value = "after", required = false)
+        String after,
+        @RequestParam(value = "size", defaultValue = "20")
+        int size
+        ) {
+        BookmarkCursor cursor = parseCursor(after);
+        int limit = pageSize(size);
+        return () -> bookmarkService.listBookmarks(cursor, limit);
+    }
+
+    // 저장된 북마크 검색 (예: /bookmarks/search?keyword=고양이 사료)
+    // 메모리 색인에서 바로 찾기 때문에 DB도, 비동기 처리도 필요 없음
+    // 응답: BM25 점수 순 북마크 목록 (JSON, uuid 자리에 bookmark_id)
+    @GetMapping("/bookmarks/search")
+    @ResponseBody
+    public List<KeywordSearch> searchBookmarks(
+        @RequestParam("keyword")
+        String keyword
+        ) {
+        return bookmarkSearchService.searchByKeyword(keyword);
+    }
+
+    // 커서가 깨져 있으면 400
+    private static BookmarkCursor parseCursor(String after) {
+        if (after == null || after.isBlank()) {
+            return null;
+        }
+        try {
+            return BookmarkCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid cursor", e);
+        }
+    }
+
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
     }
 
     // 주소창에서 "/{uuid}"로 접근하면 실행됨
     // 예: 사용자가 "/3f2f34af"로 접근하면 uuid 값이 "3f2f34af"로 들어옴
+    // 북마크 조회는 대부분 BookmarkService 캐시에서 끝나기 때문에 요청 스레드에서 바로 처리해요.
+    // (304 Not Modified 응답도 동기 방식일 때 스프링이 뷰 렌더링 없이 깔끔하게 끝내줌)
     @GetMapping("/{uuid}")
     public String search(
         // URL 경로의 일부로부터 uuid 값을 받아옴 (→ 경로 변수)
         @PathVariable("uuid") 
         String uuid, 
         // 결과를 JSP에 넘기기 위한 모델
-        Model model
-        ) throws Exception {
-        // 해당 uuid에 해당하는 북마크 하나를 서비스에서 불러와서 모델에 담음
-        model.addAttribute("bookmark", bookmarkService.readOneBookmark(uuid));
+        Model model,
+        // If-None-Match 헤더 확인 / ETag 헤더 설정용
+        WebRequest webRequest,
+        HttpServletResponse response
+        ) {
+        // 해당 uuid에 해당하는 북마크 하나를 서비스에서 불러옴
+        KeywordSearch bookmark = bookmarkService.readOneBookmark(uuid);
+        if (bookmark == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND); // 없는 북마크는 404
+        }
+        // 북마크는 바뀌지 않으니 브라우저/프록시가 잠깐 저장해둬도 됨
+        response.setHeader(HttpHeaders.CACHE_CONTROL, BOOKMARK_CACHE_CONTROL);
+        // 브라우저가 보낸 ETag(If-None-Match)가 같으면 304만 보내고 끝 (JSP 렌더링 안 함)
+        if (webRequest.checkNotModified(etagOf(bookmark))) {
+            return null;
+        }
+        model.addAttribute("bookmark", bookmark);
         // bookmark.jsp 파일을 보여줌 (검색 결과 상세 페이지 같은 느낌)
         return "bookmark";
     }
+
+    // 강한 ETag: 뷰 버전 + 북마크 내용의 SHA-256 (앞 128비트)
+    // hashCode(32비트)는 다른 내용끼리 겹칠 수 있어서 "내용이 같다"는 보증(validator)으로 쓸 수 없음
+    // 필드 사이에 \0을 넣어서 ("ab","c")와 ("a","bc")가 같은 값이 되지 않게 함
+    private static String etagOf(KeywordSearch bookmark) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // 모든 JDK에 있는 알고리즘
+        }
+        for (String field : new String[]{VIEW_VERSION, bookmark.uuid(), bookmark.title(), bookmark.link(),
+                bookmark.description(), bookmark.date(), bookmark.createdAt()}) {
+            digest.update(String.valueOf(field).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        byte[] hash = digest.digest();
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+    }
 }
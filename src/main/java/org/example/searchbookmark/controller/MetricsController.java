@@ -0,0 +1,68 @@
+package org.example.searchbookmark.controller;
+
+import org.example.searchbookmark.config.PoolMetrics;
+import org.example.searchbookmark.service.CachingSearchService;
+import org.example.searchbookmark.service.WarmupService;
+import org.example.searchbookmark.util.Metrics;
+import org.example.searchbookmark.util.NaverSearchAPI;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.List;
+import java.util.Map;
+
+// 운영 중에 내부 상태(캐시 적중률 등)를 확인하기 위한 컨트롤러
+// @ResponseBody: JSP를 거치지 않고 반환값을 그대로 JSON으로 내려줌 (Jackson이 변환)
+@Controller
+public class MetricsController {
+    private final CachingSearchService cachingSearchService;
+    private final NaverSearchAPI naverSearchAPI;
+    private final WarmupService warmupService;
+
+    public MetricsController(CachingSearchService cachingSearchService, NaverSearchAPI naverSearchAPI,
+                             WarmupService warmupService) {
+        this.cachingSearchService = cachingSearchService;
+        this.naverSearchAPI = naverSearchAPI;
+        this.warmupService = warmupService;
+    }
+
+    // 준비 상태 확인 주소 (쿠버네티스 readinessProbe / 로드밸런서 헬스 체크)
+    // 워밍업(WarmupService)이 끝나기 전에는 503 → 그동안은 트래픽을 받지 않음
+    @GetMapping("/ready")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> ready() {
+        HttpStatus status = warmupService.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(warmupService.status());
+    }
+
+    // Prometheus가 긁어가는 주소 (scrape_configs 의 metrics_path: /metrics)
+    // 단계별 지연 시간(naver_call/decode, db_session_acquire, mybatis_statement, jsp_render), 캐시 적중/오류 카운터, 풀 상태
+    @GetMapping(value = "/metrics", produces = "text/plain; version=0.0.4; charset=utf-8")
+    @ResponseBody
+    public String prometheus() {
+        return Metrics.prometheus();
+    }
+
+    @GetMapping("/metrics/search-cache")
+    @ResponseBody
+    public Map<String, Long> searchCache() {
+        return cachingSearchService.stats();
+    }
+
+    // DB 커넥션 풀 상태: 사용 중/유휴/대기 중 커넥션 수 + 커넥션 획득 지연 시간 백분위
+    @GetMapping("/metrics/pool")
+    @ResponseBody
+    public List<Map<String, Object>> pool() {
+        return PoolMetrics.all().values().stream().map(PoolMetrics::snapshot).toList();
+    }
+
+    // 네이버 API 장애 대응 상태: 서킷 브레이커, 속도 제한, 동시 요청 상한(자동 조절), 응답 시간
+    @GetMapping("/metrics/upstream")
+    @ResponseBody
+    public Map<String, Object> upstream() {
+        return naverSearchAPI.stats();
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.searchbookmark.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.searchbookmark.service.KeywordSuggestService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.List;
+
+// 검색창 자동완성 (index.jsp 의 asset/suggest.js 가 입력할 때마다 부름)
+// 메모리에 있는 인기 검색어 인덱스만 읽어서 바로 돌려줌 → 네이버 API도, DB도, 비동기 처리도 필요 없음
+@Controller
+public class SuggestController {
+    // 인기 검색어는 재구성 주기(기본 1분)마다 바뀌니 그동안은 브라우저가 같은 접두어를 다시 묻지 않도록
+    private static final String SUGGEST_CACHE_CONTROL = "public, max-age=60";
+    private static final int MAX_SIZE = 20;
+
+    private final KeywordSuggestService suggestService;
+
+    public SuggestController(KeywordSuggestService suggestService) {
+        this.suggestService = suggestService;
+    }
+
+    // 예: /suggest?q=고양 → ["고양이","고양이 사료", ...] (JSON, 점수 높은 순)
+    @GetMapping("/suggest")
+    @ResponseBody
+    public List<String> suggest(
+        @RequestParam(value = "q", defaultValue = "")
+        String q,
+        @RequestParam(value = "size", defaultValue = "10")
+        int size,
+        HttpServletResponse response
+        ) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, SUGGEST_CACHE_CONTROL);
+        return suggestService.suggest(q, Math.max(1, Math.min(size, MAX_SIZE)));
+    }
+}
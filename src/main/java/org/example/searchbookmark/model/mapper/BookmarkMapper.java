@@ -1,9 +1,23 @@
 package org.example.searchbookmark.model.mapper;
 
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+import org.example.searchbookmark.model.vo.BookmarkCursor;
+import org.example.searchbookmark.model.vo.BookmarkInsert;
+import org.example.searchbookmark.model.vo.BookmarkSummary;
 import org.example.searchbookmark.model.vo.KeywordSearch;
 
+import java.util.List;
+import java.util.UUID;
+
 public interface BookmarkMapper {
-    int insertBookmark(KeywordSearch keywordSearch);
-    KeywordSearch getOneBookmark(String uuid);
-    String checkLastID();
+    int insertBookmark(BookmarkInsert bookmarkInsert);
+    int insertBookmarks(List<BookmarkInsert> bookmarkInserts);
+    // bookmarkId를 미리 채워서 넣고, 이미 있는 bookmark_id는 건너뜀 (write-behind 저널 재처리용)
+    int insertBookmarksIfAbsent(List<BookmarkInsert> bookmarkInserts);
+    KeywordSearch getOneBookmark(UUID bookmarkId);
+    // after가 null이면 첫 페이지
+    List<BookmarkSummary> listBookmarks(@Param("after") BookmarkCursor after, @Param("limit") int limit);
+    // 전체 북마크를 한 행씩 꺼내 쓰는 커서 (SqlSession이 열려 있는 동안만 쓸 수 있음)
+    Cursor<KeywordSearch> exportBookmarks();
 }
@@ -0,0 +1,16 @@
+package org.example.searchbookmark.model.mapper;
+
+import org.apache.ibatis.annotations.Param;
+import org.example.searchbookmark.model.vo.KeywordSearch;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+// 검색 결과 저장소(RESULT_STORE=db)용 mapper - search_result 테이블
+public interface SearchResultMapper {
+    // 결과를 넣고, 이미 있는 result_id는 만료 시각만 expiresAt으로 늘림
+    int upsertResults(@Param("results") List<KeywordSearch> results, @Param("expiresAt") Timestamp expiresAt);
+    // now 기준으로 만료되지 않은 결과 하나 (없으면 null)
+    KeywordSearch getResult(@Param("uuid") String uuid, @Param("now") Timestamp now);
+    int deleteExpired(@Param("now") Timestamp now);
+}
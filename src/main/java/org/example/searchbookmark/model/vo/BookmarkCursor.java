@@ -0,0 +1,32 @@
+package org.example.searchbookmark.model.vo;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.UUID;
+
+// 키셋 페이지네이션 커서: "이 북마크(created_at, bookmark_id) 다음부터" 를 뜻함
+// OFFSET은 앞 페이지 행을 전부 읽고 버려서 뒤로 갈수록 느려지지만,
+// 커서는 인덱스에서 그 위치로 바로 찾아가기 때문에 몇 번째 페이지든 속도가 같아요.
+// URL에는 "created_at|bookmark_id" 를 base64url로 감싼 문자열로 주고받음 (?after=...)
+public record BookmarkCursor(Timestamp createdAt, UUID bookmarkId) {
+
+    public static BookmarkCursor of(BookmarkSummary last) {
+        return new BookmarkCursor(last.createdAt(), last.uuid());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + bookmarkId; // Timestamp.toString()은 나노초까지 그대로 남음
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 잘못된 커서면 IllegalArgumentException
+    public static BookmarkCursor decode(String token) {
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int separator = raw.indexOf('|');
+        if (separator < 0) {
+            throw new IllegalArgumentException("invalid bookmark cursor: " + token);
+        }
+        return new BookmarkCursor(Timestamp.valueOf(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+    }
+}
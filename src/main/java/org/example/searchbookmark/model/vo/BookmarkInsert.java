@@ -0,0 +1,48 @@
+package org.example.searchbookmark.model.vo;
+
+import java.util.UUID;
+
+// INSERT 할 때 MyBatis에 넘기는 파라미터 객체
+// bookmark_id는 BookmarkService가 INSERT 전에 UUIDv7로 채워 넣음 (DB uuid 컬럼 ↔ UuidTypeHandler)
+public class BookmarkInsert {
+    private final String title;
+    private final String link;
+    private final String description;
+    private final String date;
+    private UUID bookmarkId;
+
+    public BookmarkInsert(String title, String link, String description, String date) {
+        this.title = title;
+        this.link = link;
+        this.description = description;
+        this.date = date;
+    }
+
+    public static BookmarkInsert from(KeywordSearch keywordSearch) {
+        return new BookmarkInsert(keywordSearch.title(), keywordSearch.link(), keywordSearch.description(), keywordSearch.date());
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getLink() {
+        return link;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public UUID getBookmarkId() {
+        return bookmarkId;
+    }
+
+    public void setBookmarkId(UUID bookmarkId) {
+        this.bookmarkId = bookmarkId;
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.searchbookmark.model.vo;
+
+import java.util.List;
+
+// 북마크 목록 한 페이지 + 다음 페이지 커서 (마지막 페이지면 next == null)
+public record BookmarkPage(List<BookmarkSummary> items, String next) {
+}
@@ -0,0 +1,10 @@
+package org.example.searchbookmark.model.vo;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+// 북마크 목록(GET /bookmarks) 한 줄에 필요한 값만 담는 객체
+// link, description 같은 큰 컬럼은 빼서 인덱스만 읽고 끝낼 수 있게 함 (sql/db.sql 의 covering index)
+// createdAt은 다음 페이지 커서(BookmarkCursor)로 다시 써야 해서 문자열이 아니라 Timestamp로 받아요.
+public record BookmarkSummary(UUID uuid, String title, String date, Timestamp createdAt) {
+}
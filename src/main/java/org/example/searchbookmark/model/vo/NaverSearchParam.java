@@ -1,4 +1,14 @@
 package org.example.searchbookmark.model.vo;
 
-public record NaverSearchParam(String query) {
+// 네이버 검색 API 요청 파라미터
+// vertical: 검색 종류 (blog, news, cafearticle, webkr ...) → /v1/search/{vertical}.json
+// display : 한 번에 받을 결과 수 (네이버 최대 100)
+// start   : 몇 번째 결과부터 받을지 (1부터 시작, 페이지 넘기기용)
+public record NaverSearchParam(String query, String vertical, int display, int start) {
+    public static final String BLOG = "blog";
+
+    // 예전처럼 검색어만 주면 블로그 검색 첫 페이지 10개
+    public NaverSearchParam(String query) {
+        this(query, BLOG, 10, 1);
+    }
 }
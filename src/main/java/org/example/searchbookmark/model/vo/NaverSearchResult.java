@@ -1,5 +1,6 @@
 package org.example.searchbookmark.model.vo;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import java.util.List;
@@ -17,6 +18,7 @@ public record NaverSearchResult(List<Item> items) { // 전체 검색 결과를 
         String title,       // 블로그 글 제목
         String link,        // 글 링크
         String description, // 설명 또는 요약
-        String postdate     // 작성일자 (yyyyMMdd)
+        @JsonAlias("pubDate") // 뉴스 검색은 작성일자 필드 이름이 pubDate (형식도 "Mon, 17 Oct 2026 ..." 로 다름)
+        String postdate     // 작성일자 (yyyyMMdd), 카페/웹문서 검색은 없음
     ) {}
 }
@@ -0,0 +1,11 @@
+package org.example.searchbookmark.service;
+
+import org.example.searchbookmark.model.vo.KeywordSearch;
+
+import java.util.List;
+
+// 북마크가 DB에 저장(commit)된 뒤 BookmarkService가 발행하는 스프링 이벤트
+// uuid 자리에는 새로 만들어진 bookmark_id가 들어 있어요. (createdAt은 null)
+// 받는 쪽: BookmarkSearchService (검색 색인에 바로 추가)
+public record BookmarkCreatedEvent(List<KeywordSearch> bookmarks) {
+}
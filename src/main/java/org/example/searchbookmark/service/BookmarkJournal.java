@@ -0,0 +1,266 @@
+package org.example.searchbookmark.service;
+
+import org.example.searchbookmark.model.vo.BookmarkInsert;
+import org.example.searchbookmark.util.MyLogger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+// 아직 DB에 commit되지 않은 북마크를 적어두는 파일 (write-behind 모드용)
+// - 요청에 응답하기 전에 여기에 먼저 씀 → 서버가 죽어도 재시작할 때 다시 읽어서 DB에 넣을 수 있음
+// - 파일 끝에 이어 붙이기만 함 (append-only)
+// - 대기 중인 북마크가 모두 commit되면 파일을 비우고, 너무 커지면 아직 대기 중인 것만 새 파일로 옮겨 씀
+// 호출하는 쪽(BookmarkWriteBehind)이 락을 잡고 부르기 때문에 이 클래스는 스레드 안전하지 않아요.
+// (sync만 예외: 락 없이 불러도 되고, 그 사이 append가 계속 들어와도 됨)
+//
+// 레코드 형식: [레코드 길이 int][CRC32 int][bookmark_id][title][link][description][date]
+//             (레코드 길이는 앞의 8바이트 포함, CRC32는 그 뒤 내용 전체, 문자열은 [바이트 길이 int][UTF-8 바이트])
+public class BookmarkJournal implements AutoCloseable {
+    private final MyLogger logger = new MyLogger(this.getClass().getName());
+
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    // 이보다 긴 레코드는 없음 (제목/링크/설명이 몇 KB) → 길이가 깨진 값이면 큰 버퍼를 잡지 않고 바로 손상으로 봄
+    private static final int MAX_RECORD_BYTES = 1024 * 1024;
+
+    private final Path path;
+    // true: sync()가 디스크까지 내려씀 (전원이 나가도 안전)
+    // false: OS 페이지 캐시까지만 (프로세스가 죽는 건 괜찮지만 OS/전원 장애에는 마지막 몇 건이 빠질 수 있음)
+    private final boolean fsync;
+    // rewrite가 바꿔치기하므로 락 없이 부르는 sync도 새 채널을 보도록 volatile
+    private volatile FileChannel channel;
+
+    public BookmarkJournal(Path path, boolean fsync) {
+        this.path = path;
+        this.fsync = fsync;
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            this.channel = open(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // OS 페이지 캐시까지만 씀 (디스크까지 내려쓰는 건 sync)
+    public void append(BookmarkInsert row) {
+        ByteBuffer record = encode(row);
+        try {
+            long offset = channel.size();
+            while (record.hasRemaining()) {
+                channel.write(record, offset + record.position());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean fsync() {
+        return fsync;
+    }
+
+    // 지금까지 append한 레코드를 모두 디스크까지 내려씀 (fsync=false면 아무것도 안 함)
+    // 여러 요청이 쓴 레코드를 fsync 한 번으로 같이 내려쓰려고 BookmarkWriteBehind가 락 밖에서 부름
+    public void sync() {
+        if (!fsync) {
+            return;
+        }
+        while (true) {
+            FileChannel current = channel;
+            try {
+                current.force(false);
+                return;
+            } catch (ClosedChannelException e) {
+                // 그 사이 rewrite가 채널을 바꿨으면 새 채널로 다시 (옛 파일의 레코드는 rewrite가 이미 내려씀)
+                if (current == channel) {
+                    throw new UncheckedIOException(e);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public long size() {
+        try {
+            return channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 대기 중인 게 하나도 없을 때: 파일을 비움
+    // 비운 걸 디스크까지 내려쓰지는 않음 (재시작 때 다시 넣어도 이미 DB에 있는 id는 건너뜀)
+    public void clear() {
+        try {
+            channel.truncate(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 아직 대기 중인 북마크만 새 파일에 쓰고 바꿔치기 (계속 바빠서 파일이 한 번도 비워지지 않을 때)
+    public void rewrite(Collection<BookmarkInsert> pending) {
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        try {
+            try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                for (BookmarkInsert row : pending) {
+                    ByteBuffer record = encode(row);
+                    while (record.hasRemaining()) {
+                        target.write(record);
+                    }
+                }
+                target.force(false);
+            }
+            Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            // 새 채널을 먼저 열어 넣고 옛 채널을 닫음 (sync가 닫힌 채널만 보고 실패하지 않도록)
+            FileChannel previous = channel;
+            channel = open(path);
+            previous.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        logger.info(() -> "BookmarkJournal compacted: %d pending bookmarks".formatted(pending.size()));
+    }
+
+    // 재시작 시 파일에 남아 있는 북마크를 모두 읽음 (이미 DB에 들어간 것도 섞여 있을 수 있음)
+    // 길이가 범위를 벗어나거나 CRC가 안 맞는 레코드를 만나면 (쓰다 만 마지막 레코드, 디스크 손상)
+    // 그 앞의 멀쩡한 레코드까지만 돌려주고 파일을 거기서 잘라냄 → 서버는 정상적으로 뜸
+    // 잘라낸 부분은 원인을 볼 수 있게 .corrupt 파일로 옮겨둠
+    public List<BookmarkInsert> recover() {
+        List<BookmarkInsert> rows = new ArrayList<>();
+        try {
+            long size = channel.size();
+            long position = 0;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (position + HEADER_BYTES <= size) {
+                header.clear();
+                readFully(header, position);
+                int length = header.flip().getInt();
+                int crc = header.getInt();
+                if (length < HEADER_BYTES || length > MAX_RECORD_BYTES || position + length > size) {
+                    break;
+                }
+                ByteBuffer record = ByteBuffer.allocate(length - HEADER_BYTES);
+                readFully(record, position + HEADER_BYTES);
+                BookmarkInsert row = decode(record.flip(), crc);
+                if (row == null) {
+                    break;
+                }
+                rows.add(row);
+                position += length;
+            }
+            if (position < size) {
+                quarantine(position, size);
+                channel.truncate(position);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rows;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("journal shrank while reading: " + path);
+            }
+        }
+    }
+
+    // CRC가 맞고 필드 길이가 모두 레코드 안에 들어가야 북마크로 인정 (아니면 null)
+    private static BookmarkInsert decode(ByteBuffer record, int crc) {
+        CRC32 checksum = new CRC32();
+        checksum.update(record.duplicate());
+        if ((int) checksum.getValue() != crc) {
+            return null;
+        }
+        String[] fields = new String[5];
+        for (int i = 0; i < fields.length; i++) {
+            if (record.remaining() < Integer.BYTES) {
+                return null;
+            }
+            int length = record.getInt();
+            if (length < 0 || length > record.remaining()) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            record.get(bytes);
+            fields[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        if (record.hasRemaining()) {
+            return null;
+        }
+        BookmarkInsert row = new BookmarkInsert(fields[1], fields[2], fields[3], fields[4]);
+        try {
+            row.setBookmarkId(UUID.fromString(fields[0]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return row;
+    }
+
+    // from부터 끝까지를 옆 파일(bookmarks.journal.corrupt-<시각>)에 복사
+    private void quarantine(long from, long size) {
+        Path corrupt = path.resolveSibling(path.getFileName() + ".corrupt-" + System.currentTimeMillis());
+        logger.error("BookmarkJournal: %s has %d unreadable bytes after offset %d, truncating (copy in %s)"
+                .formatted(path, size - from, from, corrupt));
+        try (FileChannel target = FileChannel.open(corrupt, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long copied = 0;
+            while (copied < size - from) {
+                copied += channel.transferTo(from + copied, size - from - copied, target);
+            }
+        } catch (IOException e) {
+            // 복사를 못 해도 잘라내는 건 계속함 (서버가 못 뜨는 것보다 나음)
+            logger.error("BookmarkJournal: could not copy corrupt tail to " + corrupt, e);
+        }
+    }
+
+    private static ByteBuffer encode(BookmarkInsert row) {
+        byte[][] fields = {
+                bytes(row.getBookmarkId().toString()), bytes(row.getTitle()), bytes(row.getLink()),
+                bytes(row.getDescription()), bytes(row.getDate())
+        };
+        int length = HEADER_BYTES;
+        for (byte[] field : fields) {
+            length += Integer.BYTES + field.length;
+        }
+        // recover가 손상으로 볼 크기는 처음부터 쓰지 않음 (어차피 DB 컬럼에도 안 들어감)
+        if (length > MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("bookmark too large for journal: %d bytes".formatted(length));
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.position(HEADER_BYTES);
+        for (byte[] field : fields) {
+            buffer.putInt(field.length).put(field);
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.flip().position(HEADER_BYTES));
+        return buffer.putInt(0, length).putInt(Integer.BYTES, (int) checksum.getValue()).position(0);
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,209 @@
+package org.example.searchbookmark.service;
+
+import org.example.searchbookmark.model.vo.KeywordSearch;
+import org.example.searchbookmark.util.DotenvMixin;
+import org.example.searchbookmark.util.KoreanTokenizer;
+import org.example.searchbookmark.util.MyLogger;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 저장된 북마크(title, description)를 검색하는 SearchService
+// DB에 LIKE 검색을 보내는 대신, 메모리에 역색인(inverted index)을 만들어두고 거기서 찾아요.
+//   역색인: 토큰 → 그 토큰이 들어 있는 북마크 목록(posting)
+//   "고양이 사료" 검색 → 고양, 양이, 사료 posting만 훑어서 점수 합산 → DB를 전혀 안 거침
+// - 점수: BM25 (자주 나오는 토큰일수록, 짧은 문서에서 나올수록 점수가 높음 / 흔한 토큰은 가중치 낮음)
+// - 제목에 나온 토큰은 설명보다 TITLE_WEIGHT배로 셈
+// - 서버가 뜰 때 DB 전체를 한 번 읽어서 색인을 만들고(비동기), 이후에는 BookmarkCreatedEvent로 새 북마크만 추가
+@Service
+public class BookmarkSearchService implements SearchService, DotenvMixin {
+    private final MyLogger logger = new MyLogger(this.getClass().getName());
+
+    // BM25 기본값 (k1: 같은 토큰이 반복될 때 점수가 얼마나 빨리 포화되는지, b: 문서 길이 보정 정도)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 2;
+
+    private final BookmarkService bookmarkService;
+    private final ExecutorService applicationExecutor;
+    private final int maxResults;
+
+    // 색인 변경은 하나씩, 검색은 여러 스레드가 동시에
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<String, Integer> docIdsByUuid = new HashMap<>(); // 같은 북마크가 두 번 들어가지 않도록
+    private final List<KeywordSearch> docs = new ArrayList<>();       // 문서 번호(docId) → 북마크
+    private int[] docLengths = new int[1024];                          // 문서 번호 → 토큰 수
+    private long totalLength;
+
+    private final AtomicBoolean loadStarted = new AtomicBoolean();
+
+    public BookmarkSearchService(BookmarkService bookmarkService, ExecutorService applicationExecutor) {
+        this.bookmarkService = bookmarkService;
+        this.applicationExecutor = applicationExecutor;
+        this.maxResults = Integer.parseInt(dotenv.get("BOOKMARK_SEARCH_MAX_RESULTS", "20"));
+    }
+
+    // 토큰 하나의 posting 목록: 이 토큰이 나온 문서 번호와 그 문서 안에서의 등장 횟수
+    // 문서 번호는 항상 커지는 순서로 추가되기 때문에 정렬된 배열로 유지돼요.
+    private static final class Postings {
+        int[] docIds = new int[4];
+        int[] termFrequencies = new int[4];
+        int size;
+
+        void add(int docId, int termFrequency) {
+            if (size == docIds.length) {
+                docIds = Arrays.copyOf(docIds, size * 2);
+                termFrequencies = Arrays.copyOf(termFrequencies, size * 2);
+            }
+            docIds[size] = docId;
+            termFrequencies[size] = termFrequency;
+            size++;
+        }
+    }
+
+    // 스프링 컨테이너가 다 뜬 뒤에 DB에서 전체 북마크를 읽어서 색인을 만듦
+    // 서버 기동을 막지 않도록 실행기에서 돌리고, 그동안 들어온 검색은 지금까지 색인된 만큼만 결과가 나옴
+    @EventListener(ContextRefreshedEvent.class)
+    public void loadOnStartup() {
+        if (!loadStarted.compareAndSet(false, true)) {
+            return;
+        }
+        applicationExecutor.execute(() -> {
+            long start = System.nanoTime();
+            try {
+                long count = bookmarkService.exportBookmarks(this::index);
+                logger.info("bookmark search index built: %d bookmarks, %d terms in %d ms".formatted(
+                        count, termCount(), (System.nanoTime() - start) / 1_000_000));
+            } catch (RuntimeException e) {
+                logger.error("bookmark search index build failed: " + e);
+            }
+        });
+    }
+
+    // 새 북마크가 저장되면 바로 색인에 추가 (BookmarkService가 commit 후에 발행)
+    @EventListener
+    public void onBookmarkCreated(BookmarkCreatedEvent event) {
+        event.bookmarks().forEach(this::index);
+    }
+
+    public void index(KeywordSearch bookmark) {
+        // 제목 토큰은 TITLE_WEIGHT번, 설명 토큰은 한 번씩 셈
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String token : KoreanTokenizer.tokenize(bookmark.title())) {
+            termFrequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : KoreanTokenizer.tokenize(bookmark.description())) {
+            termFrequencies.merge(token, 1, Integer::sum);
+        }
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            if (docIdsByUuid.containsKey(bookmark.uuid())) {
+                return;
+            }
+            int docId = docs.size();
+            docs.add(bookmark);
+            docIdsByUuid.put(bookmark.uuid(), docId);
+            if (docId == docLengths.length) {
+                docLengths = Arrays.copyOf(docLengths, docId * 2);
+            }
+            docLengths[docId] = length;
+            totalLength += length;
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new Postings()).add(docId, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<KeywordSearch> searchByKeyword(String keyword) {
+        // 같은 토큰이 여러 번 나와도 한 번만 점수에 반영
+        Set<String> terms = new LinkedHashSet<>(KoreanTokenizer.tokenize(keyword));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            int documentCount = docs.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+            Map<Integer, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                // idf: 적은 문서에만 나오는 토큰일수록 큼
+                double idf = Math.log(1 + (documentCount - list.size + 0.5) / (list.size + 0.5));
+                for (int i = 0; i < list.size; i++) {
+                    int docId = list.docIds[i];
+                    int tf = list.termFrequencies[i];
+                    double norm = K1 * (1 - B + B * docLengths[docId] / averageLength);
+                    scores.merge(docId, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+            return topResults(scores);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 메모리에서 바로 끝나는 검색이라 다른 스레드로 넘기지 않고 완료된 Future로 돌려줌
+    @Override
+    public CompletableFuture<List<KeywordSearch>> searchByKeywordAsync(String keyword) {
+        return CompletableFuture.completedFuture(searchByKeyword(keyword));
+    }
+
+    // 점수 상위 maxResults개만 남김 (전체 정렬 대신 크기 maxResults짜리 힙)
+    private List<KeywordSearch> topResults(Map<Integer, Double> scores) {
+        Comparator<Map.Entry<Integer, Double>> byScore = Map.Entry.comparingByValue();
+        PriorityQueue<Map.Entry<Integer, Double>> top = new PriorityQueue<>(maxResults + 1, byScore);
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > maxResults) {
+                top.poll(); // 가장 낮은 점수를 버림
+            }
+        }
+        List<Map.Entry<Integer, Double>> ranked = new ArrayList<>(top);
+        ranked.sort(byScore.reversed());
+        return ranked.stream().map(entry -> docs.get(entry.getKey())).toList();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
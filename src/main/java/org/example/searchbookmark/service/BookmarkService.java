@@ -1,32 +1,329 @@
 package org.example.searchbookmark.service;
 
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
-import org.example.searchbookmark.config.MyBatisConfig;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.example.searchbookmark.config.ExecutionMode;
+import org.example.searchbookmark.config.ReadRouting;
+import org.example.searchbookmark.config.RoutingDataSource;
 import org.example.searchbookmark.model.mapper.BookmarkMapper;
+import org.example.searchbookmark.model.vo.BookmarkCursor;
+import org.example.searchbookmark.model.vo.BookmarkInsert;
+import org.example.searchbookmark.model.vo.BookmarkPage;
+import org.example.searchbookmark.model.vo.BookmarkSummary;
 import org.example.searchbookmark.model.vo.KeywordSearch;
+import org.example.searchbookmark.util.DotenvMixin;
+import org.example.searchbookmark.util.ExpiringLruCache;
+import org.example.searchbookmark.util.LatencyHistogram;
+import org.example.searchbookmark.util.Metrics;
 import org.example.searchbookmark.util.MyLogger;
+import org.example.searchbookmark.util.UuidV7;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 @Service
-public class BookmarkService {
+public class BookmarkService implements DotenvMixin, AutoCloseable {
     final public MyLogger logger = new MyLogger(this.getClass().getName());
 
+    // 가상 스레드 모드에서 동시에 DB를 쓰는 작업 수를 커넥션 풀 크기로 제한
+    // 풀이 꽉 찼을 때 스레드가 풀/드라이버 내부에서 기다리지 않고
+    // 이 Semaphore(가상 스레드를 캐리어 스레드에 고정시키지 않는 j.u.c 락)에서 기다리게 해요.
+    // 플랫폼 스레드 모드에서는 톰캣 스레드 수가 이미 상한이라 null (제한 없음)
+    private final Semaphore dbPermits;
+    // 여러 개를 한꺼번에 저장할 때 몇 개씩 끊어서 DB로 보낼지
+    private final int batchChunkSize;
+
+    // 북마크 조회 캐시 (uuid → 북마크, 없는 uuid는 Optional.empty()로 저장)
+    // 북마크는 한 번 저장되면 바뀌지 않기 때문에 공유 링크를 여러 번 열어도 DB는 한 번만 조회해요.
+    // 없는 uuid도 잠깐 기억해둬서 잘못된 링크가 반복해서 들어와도 DB를 두드리지 않음
+    private final ExpiringLruCache<String, Optional<KeywordSearch>> bookmarkCache;
+    private final long negativeTtlMs;
+    private final LongAdder cacheHits = Metrics.counter("bookmark_cache_hits_total");
+    private final LongAdder cacheMisses = Metrics.counter("bookmark_cache_misses_total");
+    // SqlSession을 열기까지 기다린 시간 (가상 스레드 모드의 dbPermits 대기 포함)
+    // 실제 커넥션은 첫 SQL을 실행할 때 풀에서 꺼내므로 그 대기 시간은 db_pool_acquire_seconds 에 따로 잡혀요.
+    private final LatencyHistogram sessionAcquire = Metrics.timer("db_session_acquire_seconds");
+    // 저장이 끝났다고 알릴 곳 (BookmarkCreatedEvent → BookmarkSearchService 색인 갱신)
+    private final ApplicationEventPublisher eventPublisher;
+    // BOOKMARK_WRITE_MODE=write-behind 일 때만 있음 (기본 sync: 요청 안에서 INSERT + commit)
+    private final BookmarkWriteBehind writeBehind;
+    // AppConfig에 빈으로 등록된 MyBatis 객체들
+    // - sqlSessionFactory: 한 세션에서 SQL을 여러 번 쓰는 작업(저장, 배치, 커서 내보내기)용
+    // - bookmarkMapper: SQL 한 번이면 끝나는 조회용. 호출마다 알아서 세션을 열고 닫아서 여러 스레드가 같이 써도 됨
+    private final SqlSessionFactory sqlSessionFactory;
+    private final BookmarkMapper bookmarkMapper;
+    // 조회가 복제본으로 갈 수 있는지 (복제본에 아직 안 온 북마크를 "없음"으로 캐시하지 않으려고)
+    private final boolean hasReplicas;
+    private final LongAdder replicaMisses = Metrics.counter("bookmark_replica_miss_rechecks_total");
+
+    public BookmarkService(ExecutionMode executionMode, ApplicationEventPublisher eventPublisher,
+                           SqlSessionFactory sqlSessionFactory, BookmarkMapper bookmarkMapper) {
+        this.eventPublisher = eventPublisher;
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.bookmarkMapper = bookmarkMapper;
+        this.hasReplicas = sqlSessionFactory.getConfiguration().getEnvironment().getDataSource()
+                instanceof RoutingDataSource routing && routing.replicaCount() > 0;
+        int poolSize = Integer.parseInt(dotenv.get("DB_POOL_MAX_ACTIVE", "10"));
+        this.dbPermits = executionMode == ExecutionMode.VIRTUAL ? new Semaphore(poolSize, true) : null;
+        this.batchChunkSize = Integer.parseInt(dotenv.get("BOOKMARK_BATCH_CHUNK_SIZE", "100"));
+        // 0이면 createBookmarks의 % 계산에서 ArithmeticException, 음수면 chunk마다 flush되지 않고 importBookmarks의 chunk 나누기도 깨짐
+        if (batchChunkSize < 1) {
+            throw new IllegalArgumentException("BOOKMARK_BATCH_CHUNK_SIZE must be at least 1: " + batchChunkSize);
+        }
+        this.bookmarkCache = new ExpiringLruCache<>(
+                Integer.parseInt(dotenv.get("BOOKMARK_CACHE_MAX_ENTRIES", "50000")),
+                Long.MAX_VALUE, // 개수로만 제한
+                Long.parseLong(dotenv.get("BOOKMARK_CACHE_TTL_MS", "600000")),
+                bookmark -> 1);
+        this.negativeTtlMs = Long.parseLong(dotenv.get("BOOKMARK_CACHE_NEGATIVE_TTL_MS", "30000"));
+        this.writeBehind = "write-behind".equalsIgnoreCase(dotenv.get("BOOKMARK_WRITE_MODE", "sync"))
+                ? newWriteBehind()
+                : null;
+    }
+
+    private BookmarkWriteBehind newWriteBehind() {
+        Path journalPath = Path.of(dotenv.get("BOOKMARK_JOURNAL_PATH",
+                System.getProperty("java.io.tmpdir") + "/search-bookmark/bookmarks.journal"));
+        boolean fsync = Boolean.parseBoolean(dotenv.get("BOOKMARK_JOURNAL_FSYNC", "false"));
+        BookmarkJournal journal = new BookmarkJournal(journalPath, fsync);
+        // DB가 받지 않는 북마크(너무 긴 제목, 제약 위반 등)를 옮겨두는 곳
+        BookmarkJournal deadLetters = new BookmarkJournal(Path.of(dotenv.get("BOOKMARK_DEAD_LETTER_PATH",
+                journalPath + ".dead")), fsync);
+        return new BookmarkWriteBehind(journal, deadLetters, this::flushWriteBehind,
+                Integer.parseInt(dotenv.get("BOOKMARK_WRITE_BEHIND_CAPACITY", "10000")),
+                Integer.parseInt(dotenv.get("BOOKMARK_WRITE_BEHIND_BATCH_SIZE", "500")),
+                Long.parseLong(dotenv.get("BOOKMARK_WRITE_BEHIND_LINGER_MS", "5")),
+                Long.parseLong(dotenv.get("BOOKMARK_JOURNAL_COMPACT_BYTES", String.valueOf(64L * 1024 * 1024))));
+    }
+
+    // 새 북마크의 id(UUIDv7)는 INSERT 전에 앱에서 만들어서 같이 넣음 (toRow)
+    // 예전처럼 "가장 최근 북마크 id"를 따로 조회하면 동시에 저장하는 다른 사용자의 id를 받을 수 있었어요.
+    // write-behind 모드에서는 id(UUIDv7)를 여기서 만들고 큐에 넣은 뒤 바로 돌려줌 (INSERT는 나중에 묶어서)
     public String createBookmark(KeywordSearch keywordSearch) {
-        try (SqlSession session = MyBatisConfig.getSqlSessionFactory().openSession()) {
+        if (writeBehind != null) {
+            BookmarkInsert row = BookmarkInsert.from(keywordSearch);
+            row.setBookmarkId(UuidV7.next());
+            if (!writeBehind.submit(row)) {
+                // 큐가 가득 참 → 이 요청은 직접 저장 (DB가 따라올 때까지 요청 속도를 늦추는 효과)
+                flushWriteBehind(List.of(row));
+            }
+            return row.getBookmarkId().toString();
+        }
+        return withSession(session -> {
             BookmarkMapper mapper = session.getMapper(BookmarkMapper.class);
-            int count = mapper.insertBookmark(keywordSearch);
-            logger.info(count + " bookmark inserted");
-            String uuid = mapper.checkLastID();
+            BookmarkInsert row = toRow(keywordSearch);
+            int count = mapper.insertBookmark(row);
+            logger.info(() -> count + " bookmark inserted");
             session.commit(); //insert, update, delete는 commit 필수예요 (데이터를 바꾸니까)
             // 우리가 직접 commit()을 호출해줘야 → 그제서야 DB에 **"진짜 저장"**이 됩니다!
-            return uuid;
-        }
+            bookmarkCache.remove(row.getBookmarkId().toString()); // 혹시 "없음"으로 캐시돼 있었다면 지움
+            publishCreated(List.of(row));
+            return row.getBookmarkId().toString();
+        });
+    }
+
+    // 북마크 여러 개 저장 (검색 결과 페이지 한꺼번에 북마크하기 등)
+    // ExecutorType.BATCH: INSERT를 바로 보내지 않고 모아뒀다가 flushStatements() 때 JDBC 배치로 한 번에 보냄
+    // chunk 단위로 보내고 commit은 마지막에 한 번만 → 왕복 N번, commit N번이 chunk 수만큼으로 줄어듦
+    // 반환값: 생성된 bookmark_id (입력 순서 그대로)
+    public List<String> createBookmarks(List<KeywordSearch> keywordSearches) {
+        return withSession(ExecutorType.BATCH, session -> {
+            BookmarkMapper mapper = session.getMapper(BookmarkMapper.class);
+            List<BookmarkInsert> rows = keywordSearches.stream().map(BookmarkService::toRow).toList();
+            for (int i = 0; i < rows.size(); i++) {
+                mapper.insertBookmark(rows.get(i));
+                if ((i + 1) % batchChunkSize == 0) {
+                    session.flushStatements(); // 여기서 모아둔 INSERT가 실제로 실행됨
+                }
+            }
+            session.flushStatements();
+            session.commit();
+            logger.info(() -> rows.size() + " bookmarks inserted (batch)");
+            publishCreated(rows);
+            return rows.stream().map(row -> row.getBookmarkId().toString()).toList();
+        });
+    }
+
+    // 북마크 여러 개 저장 (내보낸 파일 다시 가져오기 등 대량 입력용 → POST /bookmarks/import)
+    // chunk 하나를 INSERT ... VALUES (...), (...), ... 문장 하나로 보내고 commit은 마지막에 한 번만 함
+    public List<String> importBookmarks(List<KeywordSearch> keywordSearches) {
+        return withSession(ExecutorType.SIMPLE, session -> {
+            BookmarkMapper mapper = session.getMapper(BookmarkMapper.class);
+            List<BookmarkInsert> rows = new ArrayList<>(keywordSearches.size());
+            for (int from = 0; from < keywordSearches.size(); from += batchChunkSize) {
+                List<BookmarkInsert> chunk = keywordSearches
+                        .subList(from, Math.min(from + batchChunkSize, keywordSearches.size()))
+                        .stream().map(BookmarkService::toRow).toList();
+                mapper.insertBookmarks(chunk);
+                rows.addAll(chunk);
+            }
+            session.commit();
+            logger.info(() -> rows.size() + " bookmarks inserted (multi-row)");
+            publishCreated(rows);
+            return rows.stream().map(row -> row.getBookmarkId().toString()).toList();
+        });
     }
 
+    // 캐시에 있으면 DB를 거치지 않고 바로 돌려줌, 없으면 DB에서 읽어서 캐시에 넣음 (read-through)
+    // 없는 북마크면 null
+    // write-behind 모드에서 아직 DB에 들어가지 않은 북마크는 큐에서 바로 돌려줌
+    // uuid 형식이 아니면 DB에 묻지 않고 바로 null
     public KeywordSearch readOneBookmark(String uuid) {
-        try (SqlSession session = MyBatisConfig.getSqlSessionFactory().openSession()) {
+        UUID bookmarkId = UuidV7.parseOrNull(uuid);
+        if (bookmarkId == null) {
+            return null;
+        }
+        if (writeBehind != null) {
+            BookmarkInsert queued = writeBehind.pending(bookmarkId);
+            if (queued != null) {
+                return toKeywordSearch(queued);
+            }
+        }
+        Optional<KeywordSearch> cached = bookmarkCache.get(uuid);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached.orElse(null);
+        }
+        cacheMisses.increment();
+        KeywordSearch bookmark = withReadMapper(mapper -> mapper.getOneBookmark(bookmarkId));
+        // 복제본에 없다고 진짜 없는 건 아님 (방금 저장했거나 write-behind가 막 commit한 북마크가 아직 복제 중일 수 있음)
+        // → "없음"을 캐시하기 전에 primary에 한 번 더 물어봄 (primary에 고정된 요청은 이미 primary에서 읽었으니 생략)
+        if (bookmark == null && hasReplicas && !ReadRouting.isPrimaryPinned()) {
+            replicaMisses.increment();
+            bookmark = withPermit(() -> bookmarkMapper.getOneBookmark(bookmarkId));
+        }
+        if (bookmark == null) {
+            bookmarkCache.put(uuid, Optional.empty(), negativeTtlMs);
+        } else {
+            bookmarkCache.put(uuid, Optional.of(bookmark));
+        }
+        return bookmark;
+    }
+
+    // 북마크 목록 한 페이지 (최신순)
+    // limit보다 1개 더 읽어서 다음 페이지가 있는지 확인 → 있으면 이 페이지 마지막 행으로 다음 커서를 만듦
+    public BookmarkPage listBookmarks(BookmarkCursor after, int limit) {
+        List<BookmarkSummary> rows = withReadMapper(mapper -> mapper.listBookmarks(after, limit + 1));
+        if (rows.size() <= limit) {
+            return new BookmarkPage(rows, null);
+        }
+        List<BookmarkSummary> items = rows.subList(0, limit);
+        return new BookmarkPage(items, BookmarkCursor.of(items.get(limit - 1)).encode());
+    }
+
+    // 전체 북마크를 DB에서 읽는 대로 하나씩 sink에 넘김 (CSV/NDJSON 내보내기용)
+    // List로 모으지 않기 때문에 테이블이 아무리 커도 메모리에는 fetchSize만큼만 올라와요.
+    // 내보내는 동안 커넥션 하나(와 dbPermits 하나)를 계속 쓰고 있다는 점은 주의
+    // 반환값: 내보낸 북마크 수
+    public long exportBookmarks(Consumer<KeywordSearch> sink) {
+        return withReadSession(session -> {
+            long count = 0;
+            try (Cursor<KeywordSearch> cursor = session.getMapper(BookmarkMapper.class).exportBookmarks()) {
+                for (KeywordSearch bookmark : cursor) {
+                    sink.accept(bookmark);
+                    count++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            long exported = count;
+            logger.info(() -> exported + " bookmarks exported");
+            return exported;
+        });
+    }
+
+    // bookmark_id는 DB(gen_random_uuid())가 아니라 여기서 UUIDv7로 만들어 넣음
+    // - 시간순이라 PK 인덱스 끝에만 붙어서 B-tree가 쪼개지지 않음 (랜덤 uuid는 매번 인덱스 중간 아무 데나 끼어듦)
+    // - PostgreSQL/MySQL 모두 같은 방식이라 RETURNING(useGeneratedKeys) 없이 id를 바로 앎
+    private static BookmarkInsert toRow(KeywordSearch keywordSearch) {
+        BookmarkInsert row = BookmarkInsert.from(keywordSearch);
+        row.setBookmarkId(UuidV7.next());
+        return row;
+    }
+
+    // write-behind 큐에서 꺼낸 묶음을 저장 (chunk마다 multi-row INSERT, commit은 묶음 전체에 한 번)
+    // 저널에서 다시 읽은 북마크는 이미 들어가 있을 수 있어서 중복 id는 건너뜀
+    private void flushWriteBehind(List<BookmarkInsert> rows) {
+        withSession(session -> {
             BookmarkMapper mapper = session.getMapper(BookmarkMapper.class);
-            return mapper.getOneBookmark(uuid);
+            for (int from = 0; from < rows.size(); from += batchChunkSize) {
+                mapper.insertBookmarksIfAbsent(rows.subList(from, Math.min(from + batchChunkSize, rows.size())));
+            }
+            session.commit();
+            return null;
+        });
+        logger.info(() -> rows.size() + " bookmarks inserted (write-behind)");
+        rows.forEach(row -> bookmarkCache.remove(row.getBookmarkId().toString()));
+        publishCreated(rows);
+    }
+
+    // commit이 끝난 북마크들을 이벤트로 알림 (uuid 자리에 bookmark_id)
+    private void publishCreated(List<BookmarkInsert> rows) {
+        eventPublisher.publishEvent(new BookmarkCreatedEvent(rows.stream().map(BookmarkService::toKeywordSearch).toList()));
+    }
+
+    private static KeywordSearch toKeywordSearch(BookmarkInsert row) {
+        return new KeywordSearch(row.getBookmarkId().toString(), row.getTitle(), row.getLink(),
+                row.getDescription(), row.getDate(), null);
+    }
+
+    // write-behind 큐에 남은 북마크를 다 저장하고 종료 (스프링이 컨테이너를 내릴 때 호출)
+    @Override
+    public void close() throws IOException {
+        if (writeBehind != null) {
+            writeBehind.close();
+        }
+    }
+
+    // SqlSession 열기/닫기 + 동시 DB 작업 수 제한을 한 곳에서 처리
+    private <T> T withSession(Function<SqlSession, T> work) {
+        return withSession(ExecutorType.SIMPLE, work);
+    }
+
+    // 조회 전용 세션: 읽기 복제본이 설정돼 있으면 그쪽 커넥션을 씀 (MyBatisConfig의 DB_REPLICA_URLS)
+    private <T> T withReadSession(Function<SqlSession, T> work) {
+        return ReadRouting.readOnly(() -> withSession(ExecutorType.SIMPLE, work));
+    }
+
+    // SQL 한 번짜리 조회: 공유 mapper(빈)를 그대로 씀 (세션은 mapper가 호출마다 열고 닫음)
+    private <T> T withReadMapper(Function<BookmarkMapper, T> work) {
+        return ReadRouting.readOnly(() -> withPermit(() -> work.apply(bookmarkMapper)));
+    }
+
+    private <T> T withSession(ExecutorType executorType, Function<SqlSession, T> work) {
+        long start = System.nanoTime();
+        return withPermit(() -> {
+            try (SqlSession session = sqlSessionFactory.openSession(executorType)) {
+                sessionAcquire.recordSince(start);
+                return work.apply(session);
+            }
+        });
+    }
+
+    private <T> T withPermit(Supplier<T> work) {
+        if (dbPermits != null) {
+            dbPermits.acquireUninterruptibly();
+        }
+        try {
+            return work.get();
+        } finally {
+            if (dbPermits != null) {
+                dbPermits.release();
+            }
         }
     }
 }
@@ -0,0 +1,297 @@
+package org.example.searchbookmark.service;
+
+import org.example.searchbookmark.model.vo.BookmarkInsert;
+import org.example.searchbookmark.util.LatencyHistogram;
+import org.example.searchbookmark.util.Metrics;
+import org.example.searchbookmark.util.MyLogger;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+// 북마크를 나중에 모아서 저장하는 큐 (write-behind)
+// 요청 스레드: 저널에 적고 → 큐에 넣고 → 바로 응답 (DB를 기다리지 않음)
+//   BOOKMARK_JOURNAL_FSYNC=true면 응답 전에 저널이 디스크에 내려써질 때까지만 기다림 (group fsync, awaitDurable)
+// 저장 스레드(하나): 큐에서 batchSize개까지 꺼내서 INSERT 한 번 + commit 한 번 (group commit)
+//   → 북마크가 몰려도 commit 수는 "요청 수"가 아니라 "묶음 수"만큼만 생겨요.
+// - 큐는 ConcurrentLinkedQueue + 개수 카운터(CAS)로 capacity를 넘지 않게 막음 (가득 차면 submit이 false)
+//   저널에 쓰는 부분만 journalLock으로 줄을 세움 (레코드 하나 write하는 동안만, fsync는 락 밖에서)
+// - 아직 DB에 없는 북마크도 pending에서 바로 조회할 수 있음 (저장 직후 리디렉트된 /{uuid} 페이지)
+// - 서버가 죽으면 재시작할 때 저널에 남은 북마크를 다시 큐에 넣음
+//   (commit은 됐는데 저널을 비우기 전에 죽었을 수도 있으니 INSERT는 이미 있는 id를 건너뛰어야 함)
+// - DB 연결 끊김 같은 일시적 실패는 성공할 때까지 다시 시도
+//   DB가 절대 받지 않을 데이터(SQLState 22xxx 값 오류, 23xxx 제약 위반)는 묶음을 반씩 나눠 문제 있는 줄만 찾아내고
+//   그 줄은 dead-letter 파일로 옮김 → 나머지는 그대로 commit되고 저장 스레드가 한 줄 때문에 멈추지 않음
+public class BookmarkWriteBehind implements AutoCloseable {
+    private final MyLogger logger = new MyLogger(this.getClass().getName());
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long MAX_BACKOFF_MS = 5_000;
+
+    private final Consumer<List<BookmarkInsert>> flusher;
+    private final int capacity;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final long journalCompactBytes;
+
+    private final Queue<BookmarkInsert> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    // bookmark_id → 아직 commit되지 않은 북마크 (큐에 있거나 지금 저장 중인 것)
+    private final Map<UUID, BookmarkInsert> pending = new ConcurrentHashMap<>();
+
+    // 저널 쓰기와 "pending이 비었으면 저널 비우기"가 엇갈리지 않도록 같은 락 안에서 함
+    private final ReentrantLock journalLock = new ReentrantLock();
+    private final BookmarkJournal journal;
+    // 저장할 수 없는 북마크를 모아두는 파일 (같은 형식이라 원인을 고친 뒤 다시 넣을 수 있음)
+    private final BookmarkJournal deadLetters;
+
+    // group fsync: appended는 저널에 쓴 레코드 수(journalLock 안에서 늘림), synced는 디스크까지 내려간 레코드 수
+    // fsync 중에 들어온 요청들은 syncLock에서 기다렸다가 다음 fsync 한 번에 같이 내려감
+    private final AtomicLong appended = new AtomicLong();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private long synced; // syncLock 안에서만 읽고 씀
+
+    private final Thread writer;
+    private volatile boolean closed;
+
+    private final LongAdder rejected = Metrics.counter("bookmark_write_behind_rejected_total");
+    private final LongAdder batches = Metrics.counter("bookmark_write_behind_batches_total");
+    private final LongAdder flushed = Metrics.counter("bookmark_write_behind_rows_total");
+    private final LongAdder failures = Metrics.counter("bookmark_write_behind_failures_total");
+    private final LongAdder deadLettered = Metrics.counter("bookmark_write_behind_dead_letters_total");
+    private final LongAdder journalSyncs = Metrics.counter("bookmark_write_behind_journal_syncs_total");
+    private final LatencyHistogram flushLatency = Metrics.timer("bookmark_write_behind_flush_seconds");
+
+    // flusher: 북마크 묶음을 한 트랜잭션으로 저장 (실패하면 예외를 던져야 다시 시도함)
+    public BookmarkWriteBehind(BookmarkJournal journal, BookmarkJournal deadLetters, Consumer<List<BookmarkInsert>> flusher,
+                               int capacity, int batchSize, long lingerMs, long journalCompactBytes) {
+        this.journal = journal;
+        this.deadLetters = deadLetters;
+        this.flusher = flusher;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.journalCompactBytes = journalCompactBytes;
+
+        // 지난번에 저장하지 못한 북마크부터 다시 큐에 넣음 (capacity와 상관없이 전부)
+        List<BookmarkInsert> recovered = journal.recover();
+        for (BookmarkInsert row : recovered) {
+            pending.put(row.getBookmarkId(), row);
+            queue.offer(row);
+            queued.incrementAndGet();
+        }
+        if (!recovered.isEmpty()) {
+            logger.info(() -> "BookmarkWriteBehind: %d bookmarks recovered from journal".formatted(recovered.size()));
+        }
+        Metrics.gauge("bookmark_write_behind_queued", queued::get);
+        Metrics.gauge("bookmark_write_behind_pending", pending::size);
+        Metrics.gauge("bookmark_write_behind_journal_bytes", journal::size);
+
+        this.writer = new Thread(this::run, "bookmark-write-behind");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    // 큐가 가득 찼으면 false (호출하는 쪽에서 바로 저장하는 식으로 처리)
+    // bookmarkId는 미리 채워져 있어야 함
+    public boolean submit(BookmarkInsert row) {
+        int size;
+        do {
+            size = queued.get();
+            if (size >= capacity) {
+                rejected.increment();
+                return false;
+            }
+        } while (!queued.compareAndSet(size, size + 1));
+
+        long sequence;
+        journalLock.lock();
+        try {
+            journal.append(row);
+            pending.put(row.getBookmarkId(), row);
+            sequence = appended.incrementAndGet();
+        } catch (RuntimeException e) {
+            queued.decrementAndGet();
+            throw e;
+        } finally {
+            journalLock.unlock();
+        }
+        queue.offer(row);
+        // 큐가 비어 있다가 처음 들어왔거나 한 묶음이 다 찼으면 저장 스레드를 깨움
+        if (size == 0 || size + 1 >= batchSize) {
+            LockSupport.unpark(writer);
+        }
+        if (journal.fsync()) {
+            awaitDurable(sequence);
+        }
+        return true;
+    }
+
+    // sequence번째 레코드까지 디스크에 내려써질 때까지 기다림 (group fsync)
+    // syncLock을 먼저 잡은 요청이 "지금까지 쓴 레코드 전부"를 fsync 한 번으로 내려쓰고,
+    // 그동안 기다리던 요청들은 락을 잡자마자 이미 내려간 걸 확인하고 바로 돌아감
+    // → 동시에 N개가 들어와도 fsync는 N번이 아니라 (fsync 시간 동안 쌓인 묶음 수)만큼
+    private void awaitDurable(long sequence) {
+        syncLock.lock();
+        try {
+            if (synced >= sequence) {
+                return;
+            }
+            long target = appended.get();
+            journal.sync();
+            synced = target;
+            journalSyncs.increment();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    // 아직 DB에 commit되지 않은 북마크 (없으면 null)
+    public BookmarkInsert pending(UUID bookmarkId) {
+        return pending.get(bookmarkId);
+    }
+
+    public int queued() {
+        return queued.get();
+    }
+
+    private void run() {
+        List<BookmarkInsert> batch = new ArrayList<>(batchSize);
+        while (!closed || !queue.isEmpty()) {
+            if (queue.isEmpty()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+            // 한 묶음이 덜 찼으면 lingerMs만큼 더 모아봄 (그 사이 batchSize가 차면 submit이 깨움)
+            if (!closed && queued.get() < batchSize && lingerNanos > 0) {
+                LockSupport.parkNanos(this, lingerNanos);
+            }
+            BookmarkInsert row;
+            while (batch.size() < batchSize && (row = queue.poll()) != null) {
+                queued.decrementAndGet();
+                batch.add(row);
+            }
+            if (!flush(batch)) {
+                break; // 종료 중인데 DB가 계속 실패 → 나머지는 저널에 남겨두고 다음 기동 때 저장
+            }
+            batch.clear();
+        }
+    }
+
+    // 일시적 실패는 성공할 때까지 다시 시도 (간격은 두 배씩, 최대 5초)
+    // 데이터 오류면 반씩 나눠서 각각 다시 (한 줄만 남으면 그 줄이 범인 → dead-letter)
+    // false: 종료 중인데 DB가 계속 실패
+    private boolean flush(List<BookmarkInsert> batch) {
+        long backoffMs = 100;
+        while (true) {
+            long start = System.nanoTime();
+            try {
+                flusher.accept(batch);
+                flushLatency.recordSince(start);
+                break;
+            } catch (RuntimeException e) {
+                failures.increment();
+                if (isDataError(e)) {
+                    if (batch.size() == 1) {
+                        deadLetter(batch.get(0), e);
+                        return true;
+                    }
+                    int half = batch.size() / 2;
+                    return flush(List.copyOf(batch.subList(0, half))) && flush(List.copyOf(batch.subList(half, batch.size())));
+                }
+                logger.error("write-behind flush of %d bookmarks failed".formatted(batch.size()), e);
+                if (closed) {
+                    return false;
+                }
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(backoffMs));
+                backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+            }
+        }
+        batches.increment();
+        flushed.add(batch.size());
+        done(batch);
+        return true;
+    }
+
+    // 다시 시도해도 소용없는 오류: SQLState 22(값이 컬럼에 안 맞음: 너무 긴 문자열 등), 23(제약 위반)
+    // (MyBatis는 SQLException을 PersistenceException으로 감싸서 던지므로 원인을 따라 내려가 봄)
+    static boolean isDataError(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && sql.getSQLState() != null
+                    && (sql.getSQLState().startsWith("22") || sql.getSQLState().startsWith("23"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void deadLetter(BookmarkInsert row, RuntimeException error) {
+        deadLettered.increment();
+        logger.error("write-behind dropped bookmark %s (link=%s) to dead letters".formatted(row.getBookmarkId(), row.getLink()), error);
+        journalLock.lock();
+        try {
+            deadLetters.append(row);
+            deadLetters.sync(); // 저장 스레드에서 가끔 일어나는 일이라 묶지 않고 바로 내려씀
+        } catch (RuntimeException e) {
+            logger.error("write-behind dead letter write failed", e);
+        } finally {
+            journalLock.unlock();
+        }
+        done(List.of(row));
+    }
+
+    // commit됐거나 dead-letter로 옮긴 북마크를 대기 목록과 저널에서 정리
+    private void done(List<BookmarkInsert> batch) {
+        journalLock.lock();
+        try {
+            batch.forEach(row -> pending.remove(row.getBookmarkId()));
+            // 저널에 있는 건 전부 commit됨 → 비움
+            if (pending.isEmpty()) {
+                journal.clear();
+            } else if (journal.size() > journalCompactBytes) {
+                journal.rewrite(List.copyOf(pending.values()));
+            }
+        } catch (RuntimeException e) {
+            // 저널 정리에 실패해도 북마크는 이미 DB에 있음 (재시작 시 다시 넣으려 해도 건너뜀)
+            logger.error("write-behind journal maintenance failed", e);
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    // 남은 북마크를 다 저장하고 끝냄 (스프링 컨테이너가 내려갈 때)
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            logger.error("write-behind writer did not finish; %d bookmarks left in journal".formatted(pending.size()));
+            return;
+        }
+        journalLock.lock();
+        try {
+            journal.close();
+            deadLetters.close();
+        } finally {
+            journalLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package org.example.searchbookmark.service;
+
+import org.example.searchbookmark.model.vo.KeywordSearch;
+import org.example.searchbookmark.util.DotenvMixin;
+import org.example.searchbookmark.util.ExpiringLruCache;
+import org.example.searchbookmark.util.Metrics;
+import org.example.searchbookmark.util.MyLogger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+// 네이버 검색 결과를 메모리에 잠깐 저장해두는 SearchService (데코레이터 패턴)
+// - 같은 키워드로 여러 번 검색하면 네이버 API를 다시 부르지 않고 캐시에서 바로 돌려줌
+// - refreshAfter가 지난 결과는 일단 그대로(stale) 돌려주고, 뒤에서(비동기로) 새 결과를 받아옴
+// - 같은 키워드로 동시에 캐시 미스가 나면 네이버 API 호출은 딱 한 번만 함 (single-flight)
+// - TTL이 지난 결과도 staleIfError 동안은 버리지 않고 들고 있다가, 네이버 호출이 실패하면(서킷 브레이커 OPEN 등) 대신 돌려줌
+//   (절반 넘게 실패한 부분 결과(PartialSearchException)도 실패로 보고 캐시에 넣지 않음)
+// @Primary: SearchService 구현체가 여러 개라서 컨트롤러에는 이 캐시 버전이 주입되도록 함
+@Service
+@Primary
+public class CachingSearchService implements SearchService, DotenvMixin {
+    private final MyLogger logger = new MyLogger(this.getClass().getName());
+
+    // 실제로 검색을 수행하는 원본 서비스
+    private final SearchService delegate;
+    private final ExpiringLruCache<String, List<KeywordSearch>> cache;
+    // 검색어 자동완성용 인기 검색어 집계
+    private final KeywordSuggestService suggestService;
+    private final long ttlMs;
+    private final long refreshAfterMs;
+
+    // 지금 네이버에 요청 중인 키워드 → 그 결과를 기다리는 Future
+    private final Map<String, CompletableFuture<List<KeywordSearch>>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = Metrics.counter("search_cache_hits_total");
+    private final LongAdder misses = Metrics.counter("search_cache_misses_total");
+    private final LongAdder staleHits = Metrics.counter("search_cache_stale_hits_total");
+    private final LongAdder loadFailures = Metrics.counter("search_cache_load_failures_total");
+    private final LongAdder staleOnError = Metrics.counter("search_cache_stale_on_error_total");
+
+    // delegate: AppConfig.upstreamSearchService (SEARCH_UPSTREAM에 따라 NaverSearchService 또는 FederatedSearchService)
+    public CachingSearchService(@Qualifier("upstreamSearchService") SearchService delegate,
+                                KeywordSuggestService suggestService) {
+        this.delegate = delegate;
+        this.suggestService = suggestService;
+        int maxEntries = Integer.parseInt(dotenv.get("SEARCH_CACHE_MAX_ENTRIES", "10000"));
+        long maxBytes = Long.parseLong(dotenv.get("SEARCH_CACHE_MAX_BYTES", String.valueOf(64L * 1024 * 1024)));
+        this.ttlMs = Long.parseLong(dotenv.get("SEARCH_CACHE_TTL_MS", "600000"));
+        this.refreshAfterMs = Long.parseLong(dotenv.get("SEARCH_CACHE_REFRESH_AFTER_MS", "60000"));
+        long staleIfErrorMs = Long.parseLong(dotenv.get("SEARCH_CACHE_STALE_IF_ERROR_MS", "3600000"));
+        // 캐시에는 ttl + staleIfError 동안 남겨두고, ttl이 지났는지는 아래에서 loadedAt으로 따로 판단
+        this.cache = new ExpiringLruCache<>(maxEntries, maxBytes, ttlMs + staleIfErrorMs, CachingSearchService::estimateBytes);
+        Metrics.gauge("search_cache_entries", cache::size);
+        Metrics.gauge("search_cache_bytes", cache::weight);
+        Metrics.gauge("search_cache_evictions", cache::evictions);
+        Metrics.gauge("search_cache_expirations", cache::expirations);
+    }
+
+    @Override
+    public List<KeywordSearch> searchByKeyword(String keyword) throws Exception {
+        try {
+            return searchByKeywordAsync(keyword).get();
+        } catch (ExecutionException e) {
+            // Future가 감싼 원래 예외를 그대로 던짐
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<List<KeywordSearch>> searchByKeywordAsync(String keyword) {
+        String key = normalize(keyword);
+        ExpiringLruCache.Entry<List<KeywordSearch>> entry = cache.getEntry(key);
+        long age = entry == null ? Long.MAX_VALUE : System.currentTimeMillis() - entry.loadedAt();
+        if (age < ttlMs) {
+            hits.increment();
+            recordForSuggest(key, entry.value());
+            // 오래된 결과면 일단 돌려주고 뒤에서 갱신 (갱신 Future는 기다리지 않음)
+            if (age >= refreshAfterMs) {
+                staleHits.increment();
+                load(key);
+            }
+            return CompletableFuture.completedFuture(entry.value());
+        }
+        misses.increment();
+        if (entry == null) {
+            return load(key)
+                    .exceptionally(CachingSearchService::partialOrThrow)
+                    .thenApply(result -> recordForSuggest(key, result));
+        }
+        // TTL은 지났지만 아직 들고 있는 결과: 새로 받아보고, 실패하면 예전 결과라도 돌려줌
+        return load(key).exceptionally(error -> {
+            staleOnError.increment();
+            return entry.value();
+        }).thenApply(result -> recordForSuggest(key, result));
+    }
+
+    // 절반 넘게 실패한 검색(PartialSearchException)은 캐시에 넣지 않았지만, 예전 결과도 없으면 부분 결과라도 돌려줌
+    private static List<KeywordSearch> partialOrThrow(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof PartialSearchException partial) {
+            return partial.results();
+        }
+        throw error instanceof CompletionException completion ? completion : new CompletionException(cause);
+    }
+
+    // 결과가 있었던 검색어만 자동완성 후보로 셈 (오타/결과 없는 검색어는 제안하지 않도록)
+    private List<KeywordSearch> recordForSuggest(String key, List<KeywordSearch> result) {
+        if (!result.isEmpty()) {
+            suggestService.record(key);
+        }
+        return result;
+    }
+
+    // 키워드 하나당 동시에 하나의 로딩만 진행되도록 함
+    // 먼저 들어온 요청이 Future를 등록하고, 나머지는 그 Future를 같이 기다림
+    private CompletableFuture<List<KeywordSearch>> load(String key) {
+        CompletableFuture<List<KeywordSearch>> promise = new CompletableFuture<>();
+        CompletableFuture<List<KeywordSearch>> existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            return existing;
+        }
+        delegate.searchByKeywordAsync(key).whenComplete((result, error) -> {
+            if (error == null) {
+                cache.put(key, result); // 캐시에 먼저 넣고 나서 완료시켜야 그 사이에 또 미스가 나지 않음
+                promise.complete(result);
+            } else {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                loadFailures.increment();
+                logger.error(() -> "search cache load failed: %s (%s)".formatted(key, cause));
+                promise.completeExceptionally(cause);
+            }
+            inFlight.remove(key, promise);
+        });
+        return promise;
+    }
+
+    // "  고양이   사료 " 와 "고양이 사료" 를 같은 키로 보기 위한 정규화
+    // NFC: macOS 등에서 자모가 분리된(NFD) 한글이 들어와도 같은 문자열로 맞춰줌
+    static String normalize(String keyword) {
+        String normalized = Normalizer.normalize(keyword, Normalizer.Form.NFC);
+        return normalized.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // 결과 리스트가 차지하는 메모리를 대략 계산 (문자열은 글자당 2바이트 + 객체 헤더 정도)
+    private static long estimateBytes(List<KeywordSearch> results) {
+        long bytes = 64;
+        for (KeywordSearch item : results) {
+            bytes += 96 + 2L * (length(item.uuid()) + length(item.title()) + length(item.link())
+                    + length(item.description()) + length(item.date()));
+        }
+        return bytes;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    // 캐시 상태를 숫자로 확인하기 위한 통계
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("staleHits", staleHits.sum());
+        stats.put("loadFailures", loadFailures.sum());
+        stats.put("staleOnError", staleOnError.sum());
+        stats.put("evictions", cache.evictions());
+        stats.put("expirations", cache.expirations());
+        stats.put("entries", (long) cache.size());
+        stats.put("bytes", cache.weight());
+        return stats;
+    }
+}
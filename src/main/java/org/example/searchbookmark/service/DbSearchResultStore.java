@@ -0,0 +1,98 @@
+package org.example.searchbookmark.service;
+
+import org.example.searchbookmark.model.mapper.SearchResultMapper;
+import org.example.searchbookmark.model.vo.KeywordSearch;
+import org.example.searchbookmark.util.ExpiringLruCache;
+import org.example.searchbookmark.util.Metrics;
+import org.example.searchbookmark.util.MyLogger;
+import org.example.searchbookmark.util.UuidV7;
+
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// DB 테이블(search_result)에 검색 결과를 보관하는 저장소 (RESULT_STORE=db)
+// 서버가 여러 대여도 모두 같은 테이블을 보기 때문에, 검색한 서버와 다른 서버로 북마크 요청이 가도 결과를 찾을 수 있어요.
+// (memory/file 저장소는 서버마다 따로라서 같은 서버로 보내는 sticky session이 필요함)
+// - putAll: 결과 한 페이지를 INSERT 한 번으로 넣고, 이미 있는 결과는 만료 시각만 늘림
+//   CachingSearchService가 같은 결과(같은 uuid)를 여러 사용자에게 돌려주므로, 이 서버에서 최근에 쓴 uuid는
+//   TTL의 절반 동안 기억해두고 다시 쓰지 않음 → 인기 검색어라도 DB 쓰기는 TTL/2에 한 번 (DB에는 최소 TTL/2가 남아 있음)
+// - get: uuid로 한 행 조회, 만료된 행은 없는 것으로 봄
+//   ReadRouting.readOnly로 감싸지 않아서 항상 primary에서 읽음 (방금 다른 서버가 쓴 결과가 복제본에는 아직 없을 수 있어서)
+// - 만료된 행은 RESULT_STORE_CLEANUP_MS 마다 뒤에서 지움
+public class DbSearchResultStore implements SearchResultStore, AutoCloseable {
+    private final MyLogger logger = new MyLogger(this.getClass().getName());
+
+    // SqlSessionManager로 만든 mapper (호출마다 세션 열기 → 실행 → commit → 닫기)
+    private final SearchResultMapper mapper;
+    private final long ttlMs;
+    private final ExpiringLruCache<String, Boolean> recentlyWritten;
+    private final ScheduledExecutorService cleaner;
+
+    private final LongAdder written = Metrics.counter("result_store_db_rows_written_total");
+    private final LongAdder skipped = Metrics.counter("result_store_db_rows_skipped_total");
+    private final LongAdder expired = Metrics.counter("result_store_db_rows_expired_total");
+
+    public DbSearchResultStore(SearchResultMapper mapper, int maxEntries, long ttlMs, long cleanupMs) {
+        this.mapper = mapper;
+        this.ttlMs = ttlMs;
+        this.recentlyWritten = new ExpiringLruCache<>(maxEntries, Long.MAX_VALUE, ttlMs / 2, ignored -> 1);
+        this.cleaner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "result-store-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        cleaner.scheduleWithFixedDelay(this::deleteExpiredQuietly, cleanupMs, cleanupMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void putAll(List<KeywordSearch> results) {
+        // 한 문장 안에 같은 result_id가 두 번 있으면 PostgreSQL ON CONFLICT가 실패하므로 uuid로 한 번 거름
+        Map<String, KeywordSearch> fresh = new LinkedHashMap<>();
+        for (KeywordSearch result : results) {
+            if (recentlyWritten.get(result.uuid()) == null) {
+                fresh.putIfAbsent(result.uuid(), result);
+            }
+        }
+        skipped.add(results.size() - fresh.size());
+        if (fresh.isEmpty()) {
+            return;
+        }
+        mapper.upsertResults(List.copyOf(fresh.values()), new Timestamp(System.currentTimeMillis() + ttlMs));
+        written.add(fresh.size());
+        for (String uuid : fresh.keySet()) {
+            recentlyWritten.put(uuid, Boolean.TRUE);
+        }
+    }
+
+    @Override
+    public KeywordSearch get(String uuid) {
+        // uuid 형식이 아니면 DB에 묻지 않고 바로 없음
+        if (UuidV7.parseOrNull(uuid) == null) {
+            return null;
+        }
+        return mapper.getResult(uuid, new Timestamp(System.currentTimeMillis()));
+    }
+
+    private void deleteExpiredQuietly() {
+        try {
+            int deleted = mapper.deleteExpired(new Timestamp(System.currentTimeMillis()));
+            expired.add(deleted);
+            logger.debug(() -> "result store: %d expired results deleted".formatted(deleted));
+        } catch (Exception e) {
+            // 예외가 밖으로 나가면 ScheduledExecutorService가 다음 실행을 멈추므로 여기서 삼킴
+            logger.error("result store cleanup failed", e);
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        cleaner.shutdown();
+        cleaner.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
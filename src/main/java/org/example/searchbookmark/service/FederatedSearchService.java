@@ -0,0 +1,132 @@
+package org.example.searchbookmark.service;
+
+import org.example.searchbookmark.model.vo.KeywordSearch;
+import org.example.searchbookmark.model.vo.NaverSearchParam;
+import org.example.searchbookmark.util.DotenvMixin;
+import org.example.searchbookmark.util.MyLogger;
+import org.example.searchbookmark.util.NaverSearchAPI;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+// 여러 네이버 검색(블로그, 뉴스, 카페, 웹문서)과 여러 페이지를 한꺼번에 요청해서 합치는 SearchService
+// - 모든 요청을 동시에 보내기 때문에 전체 시간 ≈ 가장 느린 요청 하나의 시간 (순서대로 보내면 전부 더한 시간)
+// - FEDERATED_DEADLINE_MS 안에 못 온 요청(또는 실패한 요청)은 빼고, 도착한 것만 합쳐서 돌려줌
+//   단, 하나도 안 왔으면 실패, 절반 넘게 실패했으면 PartialSearchException (캐시에 빈/부분 결과가 남지 않도록)
+// - 같은 글이 여러 검색에 나오면 link 기준으로 하나만 남김
+// - 요청은 모두 NaverSearchAPI 하나(HttpClient 하나)를 같이 씀
+// AppConfig의 SEARCH_UPSTREAM=federated 로 켤 수 있어요. (기본은 블로그 검색만 하는 NaverSearchService)
+@Service
+public class FederatedSearchService implements SearchService, DotenvMixin {
+    private final MyLogger logger = new MyLogger(this.getClass().getName());
+
+    private final NaverSearchAPI naverSearchAPI;
+    private final List<String> verticals;
+    private final int pages;
+    private final int display;
+    private final long deadlineMs;
+
+    public FederatedSearchService(NaverSearchAPI naverSearchAPI) {
+        this.naverSearchAPI = naverSearchAPI;
+        this.verticals = Arrays.stream(dotenv.get("FEDERATED_VERTICALS", "blog,news,cafearticle,webkr").split(","))
+                .map(String::strip)
+                .filter(vertical -> !vertical.isEmpty())
+                .toList();
+        this.pages = Integer.parseInt(dotenv.get("FEDERATED_PAGES", "2"));
+        this.display = Integer.parseInt(dotenv.get("FEDERATED_DISPLAY", "10"));
+        this.deadlineMs = Long.parseLong(dotenv.get("FEDERATED_DEADLINE_MS", "1500"));
+        // 검색 한 번에 요청 수만큼 초당 토큰을 쓰므로, 버스트보다 많이 나누면 모든 검색이 속도 제한에 걸림
+        long burst = Long.parseLong(dotenv.get("NAVER_RATE_BURST", "20"));
+        if ((long) verticals.size() * pages > burst) {
+            logger.error("FEDERATED_VERTICALS x FEDERATED_PAGES (%d) is larger than NAVER_RATE_BURST (%d): every search will be rate limited"
+                    .formatted(verticals.size() * pages, burst));
+        }
+    }
+
+    @Override
+    public List<KeywordSearch> searchByKeyword(String keyword) throws Exception {
+        try {
+            return searchByKeywordAsync(keyword).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<List<KeywordSearch>> searchByKeywordAsync(String keyword) {
+        logger.info(() -> "federated search keyword: %s (%d verticals x %d pages)".formatted(keyword, verticals.size(), pages));
+        // 모든 요청을 먼저 다 보내놓고(fan-out) 나중에 모음(merge)
+        List<NaverSearchParam> params = new ArrayList<>();
+        for (String vertical : verticals) {
+            for (int page = 0; page < pages; page++) {
+                params.add(new NaverSearchParam(keyword, vertical, display, 1 + page * display));
+            }
+        }
+        // 속도 제한/일일 할당량 토큰은 요청 수만큼 한꺼번에 씀, 모자라면 전부 거절 (NaverSearchAPI.callAPIBatchAsync)
+        List<CompletableFuture<List<KeywordSearch>>> sent = naverSearchAPI.callAPIBatchAsync(params);
+        List<CompletableFuture<Branch>> branches = new ArrayList<>();
+        for (int i = 0; i < params.size(); i++) {
+            NaverSearchParam param = params.get(i);
+            branches.add(sent.get(i)
+                    // 모두 같은 시각에 시작했으니 각각에 같은 마감을 걸면 전체 마감과 같음
+                    .orTimeout(deadlineMs, TimeUnit.MILLISECONDS)
+                    .handle((result, error) -> {
+                        if (error == null) {
+                            return new Branch(result, null);
+                        }
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                        logger.error(() -> "federated branch failed: %s start=%d (%s)".formatted(param.vertical(), param.start(), cause));
+                        return new Branch(List.of(), cause);
+                    }));
+        }
+        return CompletableFuture.allOf(branches.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> combine(keyword, branches.stream().map(CompletableFuture::join).toList()));
+    }
+
+    // 요청 하나의 결과 (실패했으면 error)
+    private record Branch(List<KeywordSearch> results, Throwable error) {}
+
+    private static List<KeywordSearch> combine(String keyword, List<Branch> branches) {
+        List<Branch> failed = branches.stream().filter(branch -> branch.error() != null).toList();
+        if (failed.isEmpty()) {
+            return merge(branches.stream().map(Branch::results).toList());
+        }
+        Throwable firstError = failed.get(0).error();
+        if (failed.size() == branches.size()) {
+            throw new CompletionException(firstError);
+        }
+        List<KeywordSearch> merged = merge(branches.stream().map(Branch::results).toList());
+        if (failed.size() * 2 > branches.size()) {
+            throw new CompletionException(new PartialSearchException("federated search for %s: %d of %d requests failed"
+                    .formatted(keyword, failed.size(), branches.size()), merged, firstError));
+        }
+        return merged;
+    }
+
+    // 각 요청 결과의 1등, 2등, ... 을 번갈아 가며 담음 (한 검색 종류가 위쪽을 다 차지하지 않도록)
+    // link가 이미 나온 결과는 건너뜀
+    private static List<KeywordSearch> merge(List<List<KeywordSearch>> results) {
+        Map<String, KeywordSearch> byLink = new LinkedHashMap<>();
+        int longest = results.stream().mapToInt(List::size).max().orElse(0);
+        for (int rank = 0; rank < longest; rank++) {
+            for (List<KeywordSearch> result : results) {
+                if (rank < result.size()) {
+                    KeywordSearch item = result.get(rank);
+                    byLink.putIfAbsent(item.link(), item);
+                }
+            }
+        }
+        return List.copyOf(byLink.values());
+    }
+}
@@ -0,0 +1,266 @@
+package org.example.searchbookmark.service;
+
+import org.example.searchbookmark.model.vo.KeywordSearch;
+import org.example.searchbookmark.util.MyLogger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 파일에 검색 결과를 보관하는 저장소 (서버를 재시작해도 남아 있음)
+// - 결과는 파일 끝에 이어 붙이기만 함 (append-only) → 쓰기가 빠르고 중간에 죽어도 앞부분은 안전
+// - 메모리에는 "uuid → 파일 위치" 색인만 들고 있어서 결과 본문은 힙을 차지하지 않아요.
+// - 재시작하면 파일을 처음부터 읽어서 색인을 다시 만듦
+// - 살아있는 항목이 maxEntries/maxBytes를 넘거나, 파일의 절반 이상이 버려진 레코드(덮어쓴/만료된 것)가 되면
+//   살아있는 항목만 새 파일로 옮겨 씀 (compaction)
+//   이때 한도의 75%까지 줄여둬서 compaction이 검색마다가 아니라 가끔만 일어나게 함 (하는 동안은 get도 멈추니까)
+//
+// 레코드 형식: [본문 길이 int][만료 시각 long][uuid][title][link][description][date]
+//             (문자열은 [바이트 길이 int][UTF-8 바이트])
+public class FileSearchResultStore implements SearchResultStore, AutoCloseable {
+    private final MyLogger logger = new MyLogger(this.getClass().getName());
+
+    private record Location(long offset, int length, long expiresAt) {}
+
+    // compaction 후 남길 양 (한도 대비 비율)
+    private static final double LOW_WATER = 0.75;
+    // 파일에서 버려진 레코드가 이 비율을 넘으면 compaction
+    private static final double MAX_GARBAGE_RATIO = 0.5;
+
+    private final Path path;
+    private final long ttlMs;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    // 색인이 가리키는 레코드 바이트 합 (파일 크기 - 이 값 = 버려진 바이트)
+    private final AtomicLong liveBytes = new AtomicLong();
+    // 읽기는 여러 스레드가 동시에, 쓰기/compaction은 하나씩
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private FileChannel channel;
+
+    public FileSearchResultStore(Path path, int maxEntries, long maxBytes, long ttlMs) {
+        this.path = path;
+        this.ttlMs = ttlMs;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            this.channel = open(path);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        logger.info("FileSearchResultStore: %d entries recovered from %s".formatted(index.size(), path));
+    }
+
+    @Override
+    public void putAll(List<KeywordSearch> results) {
+        long now = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            for (KeywordSearch result : results) {
+                Location existing = index.get(result.uuid());
+                // 같은 결과가 이미 있고 만료까지 충분히 남았으면 다시 쓰지 않음 (캐시된 검색이 반복돼도 파일이 안 커짐)
+                if (existing != null && existing.expiresAt() - now > ttlMs / 2) {
+                    continue;
+                }
+                append(result, now + ttlMs);
+            }
+            if (needsCompaction()) {
+                compact(now);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public KeywordSearch get(String uuid) {
+        // compaction 중에는 파일 위치가 바뀌므로 색인 조회도 readLock 안에서 함
+        lock.readLock().lock();
+        try {
+            Location location = index.get(uuid);
+            if (location == null) {
+                return null;
+            }
+            if (location.expiresAt() <= System.currentTimeMillis()) {
+                if (index.remove(uuid, location)) {
+                    liveBytes.addAndGet(-location.length());
+                }
+                return null;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(location.length());
+            long position = location.offset();
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position + buffer.position());
+                if (read < 0) {
+                    return null;
+                }
+            }
+            buffer.flip();
+            buffer.getInt();  // 본문 길이
+            buffer.getLong(); // 만료 시각
+            return new KeywordSearch(readString(buffer), readString(buffer), readString(buffer),
+                    readString(buffer), readString(buffer), null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 레코드 하나를 파일 끝에 쓰고 색인을 갱신 (writeLock 안에서만 호출)
+    private void append(KeywordSearch result, long expiresAt) throws IOException {
+        ByteBuffer record = encode(result, expiresAt);
+        long offset = channel.size();
+        while (record.hasRemaining()) {
+            channel.write(record, offset + record.position());
+        }
+        track(index.put(result.uuid(), new Location(offset, record.limit(), expiresAt)), record.limit());
+    }
+
+    // 색인에서 레코드가 바뀔 때 살아있는 바이트 수를 맞춤 (덮어쓴 예전 레코드는 버려진 바이트가 됨)
+    private void track(Location replaced, int addedLength) {
+        liveBytes.addAndGet(addedLength - (replaced == null ? 0 : replaced.length()));
+    }
+
+    private boolean needsCompaction() throws IOException {
+        long size = channel.size();
+        return index.size() > maxEntries || liveBytes.get() > maxBytes
+                || (size > maxBytes * (1 - LOW_WATER) && size - liveBytes.get() > size * MAX_GARBAGE_RATIO);
+    }
+
+    // 살아있는 항목만 새 파일에 옮겨 쓰고 바꿔치기
+    // 개수나 바이트가 한도의 75%를 넘으면 만료가 가장 빠른 것부터 버림
+    private void compact(long now) throws IOException {
+        index.entrySet().removeIf(entry -> entry.getValue().expiresAt() <= now);
+        long entryLimit = (long) (maxEntries * LOW_WATER);
+        long byteLimit = (long) (maxBytes * LOW_WATER);
+        long bytes = index.values().stream().mapToLong(Location::length).sum();
+        if (index.size() > entryLimit || bytes > byteLimit) {
+            List<Map.Entry<String, Location>> oldestFirst = index.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().expiresAt()))
+                    .toList();
+            for (Map.Entry<String, Location> entry : oldestFirst) {
+                if (index.size() <= entryLimit && bytes <= byteLimit) {
+                    break;
+                }
+                index.remove(entry.getKey());
+                bytes -= entry.getValue().length();
+            }
+        }
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (Map.Entry<String, Location> entry : index.entrySet()) {
+                Location location = entry.getValue();
+                long newOffset = target.position();
+                // transferTo는 요청한 것보다 적게 옮길 수 있어서 다 옮길 때까지 반복
+                long copied = 0;
+                while (copied < location.length()) {
+                    long transferred = channel.transferTo(location.offset() + copied, location.length() - copied, target);
+                    if (transferred <= 0) {
+                        throw new IOException("short transfer while compacting " + path);
+                    }
+                    copied += transferred;
+                }
+                entry.setValue(new Location(newOffset, location.length(), location.expiresAt()));
+            }
+            target.force(false);
+        }
+        liveBytes.set(bytes);
+        channel.close();
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = open(path);
+        logger.info("FileSearchResultStore compacted: %d entries, %d bytes".formatted(index.size(), channel.size()));
+    }
+
+    // 재시작 시 파일을 처음부터 읽어서 색인을 다시 만듦
+    // 마지막 레코드가 쓰다 만 상태(서버가 죽은 경우)면 그 앞에서 파일을 잘라냄
+    private void recover() throws IOException {
+        long now = System.currentTimeMillis();
+        long size = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES + Long.BYTES);
+        while (position + header.capacity() <= size) {
+            header.clear();
+            channel.read(header, position);
+            header.flip();
+            int length = header.getInt();
+            long expiresAt = header.getLong();
+            if (length < header.capacity() || position + length > size) {
+                break;
+            }
+            ByteBuffer uuidLength = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(uuidLength, position + header.capacity());
+            ByteBuffer uuid = ByteBuffer.allocate(uuidLength.flip().getInt());
+            channel.read(uuid, position + header.capacity() + Integer.BYTES);
+            String key = new String(uuid.array(), StandardCharsets.UTF_8);
+            if (expiresAt > now) {
+                track(index.put(key, new Location(position, length, expiresAt)), length);
+            } else {
+                track(index.remove(key), 0);
+            }
+            position += length;
+        }
+        if (position < size) {
+            channel.truncate(position);
+        }
+    }
+
+    private static ByteBuffer encode(KeywordSearch result, long expiresAt) {
+        byte[][] fields = {
+                bytes(result.uuid()), bytes(result.title()), bytes(result.link()),
+                bytes(result.description()), bytes(result.date())
+        };
+        int length = Integer.BYTES + Long.BYTES;
+        for (byte[] field : fields) {
+            length += Integer.BYTES + field.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putInt(length).putLong(expiresAt);
+        for (byte[] field : fields) {
+            buffer.putInt(field.length).put(field);
+        }
+        return buffer.flip();
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.searchbookmark.service;
+
+import org.example.searchbookmark.model.vo.KeywordSearch;
+import org.example.searchbookmark.util.ExpiringLruCache;
+
+import java.util.List;
+
+// 메모리에 검색 결과를 보관하는 저장소 (개수 제한 + TTL)
+// 같은 키워드를 검색한 사용자들은 CachingSearchService가 돌려준 "같은 KeywordSearch 객체"를 받기 때문에
+// 여기에는 객체 참조만 저장되고 문자열 내용이 사용자 수만큼 복사되지 않아요.
+public class InMemorySearchResultStore implements SearchResultStore {
+    private final ExpiringLruCache<String, KeywordSearch> results;
+
+    public InMemorySearchResultStore(int maxEntries, long ttlMs) {
+        this.results = new ExpiringLruCache<>(maxEntries, Long.MAX_VALUE, ttlMs, result -> 1);
+    }
+
+    @Override
+    public void putAll(List<KeywordSearch> results) {
+        for (KeywordSearch result : results) {
+            this.results.put(result.uuid(), result);
+        }
+    }
+
+    @Override
+    public KeywordSearch get(String uuid) {
+        return results.get(uuid);
+    }
+}
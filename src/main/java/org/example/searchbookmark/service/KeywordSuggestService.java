@@ -0,0 +1,252 @@
+package org.example.searchbookmark.service;
+
+import org.example.searchbookmark.util.DotenvMixin;
+import org.example.searchbookmark.util.LatencyHistogram;
+import org.example.searchbookmark.util.Metrics;
+import org.example.searchbookmark.util.MyLogger;
+import org.example.searchbookmark.util.PrefixIndex;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+// 검색창 자동완성(GET /suggest)용 인기 검색어 서비스
+// - 검색할 때마다(CachingSearchService) record()로 키워드 횟수만 올림: ConcurrentHashMap + LongAdder 라서 락 없음
+// - SUGGEST_REBUILD_MS 마다 뒤에서 한 번: 그동안 모인 횟수를 기존 점수에 더함
+//   점수 = 예전 점수 × 0.5^(지난 시간 / 반감기) + 이번 횟수  → 요즘 많이 찾는 키워드가 위로 올라옴
+//   상위 SUGGEST_TOP_K 개만 남겨서 PrefixIndex(압축 트라이)를 새로 만들고 통째로 바꿔 끼움
+// - 처음 보는 키워드는 바로 올리지 않고 후보로 횟수만 모아두다가 SUGGEST_MIN_COUNT(기본 3)번이 돼야 인덱스에 들어감
+//   → 한 사람이 한 번 친 검색어(오타, 이름, 전화번호 같은 개인 정보)가 다른 사람 자동완성이나 스냅샷에 나오지 않음
+//   후보는 메모리에만 두고(스냅샷에 안 씀), 반감기 동안 한 번도 안 찾으면 버림
+// - 만든 결과는 파일로도 저장(스냅샷) → 재시작하면 바로 읽어서 처음부터 자동완성이 됨
+// - suggest()는 지금 인덱스를 읽기만 함 (수 마이크로초, 네이버 API/DB를 전혀 안 거침)
+//
+// 스냅샷 형식: [MAGIC int][VERSION int][개수 int] + 개수 × [점수 double][키워드 writeUTF]
+@Service
+public class KeywordSuggestService implements DotenvMixin, AutoCloseable {
+    private final MyLogger logger = new MyLogger(this.getClass().getName());
+
+    private static final int MAGIC = 0x53554747; // "SUGG"
+    // 2: SUGGEST_MIN_COUNT 도입 (1로 저장된 스냅샷에는 한 번만 찾은 키워드가 섞여 있어서 읽지 않음)
+    private static final int VERSION = 2;
+    // 점수가 이보다 작아지면(반감기를 여러 번 지나 거의 안 찾는 키워드) 버림
+    private static final double MIN_SCORE = 0.05;
+
+    private final int topK;
+    private final long minCount;
+    private final int maxTracked;
+    private final int maxKeywordLength;
+    private final long halfLifeMs;
+    private final Path snapshotPath;
+
+    // 지난 재구성 이후 들어온 검색 횟수 (재구성할 때 새 맵으로 바꿔치기)
+    private final AtomicReference<ConcurrentHashMap<String, LongAdder>> window = new AtomicReference<>(new ConcurrentHashMap<>());
+    // 자동완성 인덱스 (읽는 쪽은 이 참조 하나만 읽음)
+    private volatile PrefixIndex index = PrefixIndex.EMPTY;
+    // 아직 인덱스에 못 들어간 키워드의 누적 횟수 (재구성 스레드만 바꿈, 최대 SUGGEST_MAX_TRACKED 개)
+    private volatile Map<String, Candidate> candidates = Map.of();
+    private long lastRebuildAt = System.currentTimeMillis();
+
+    private final ScheduledExecutorService scheduler;
+
+    private final LatencyHistogram suggestTimer = Metrics.timer("suggest_seconds");
+    private final LatencyHistogram rebuildTimer = Metrics.timer("suggest_rebuild_seconds");
+    private final LongAdder recorded = Metrics.counter("suggest_recorded_total");
+    private final LongAdder dropped = Metrics.counter("suggest_recorded_dropped_total");
+
+    public KeywordSuggestService() {
+        this.topK = Integer.parseInt(dotenv.get("SUGGEST_TOP_K", "10000"));
+        this.minCount = Long.parseLong(dotenv.get("SUGGEST_MIN_COUNT", "3"));
+        this.maxTracked = Integer.parseInt(dotenv.get("SUGGEST_MAX_TRACKED", "100000"));
+        this.maxKeywordLength = Integer.parseInt(dotenv.get("SUGGEST_MAX_KEYWORD_LENGTH", "50"));
+        this.halfLifeMs = Long.parseLong(dotenv.get("SUGGEST_HALF_LIFE_MS", "86400000"));
+        long rebuildMs = Long.parseLong(dotenv.get("SUGGEST_REBUILD_MS", "60000"));
+        this.snapshotPath = Path.of(dotenv.get("SUGGEST_SNAPSHOT_PATH",
+                System.getProperty("java.io.tmpdir") + "/search-bookmark/suggest.snapshot"));
+        loadSnapshot();
+        Metrics.gauge("suggest_keywords", () -> index.size());
+        Metrics.gauge("suggest_index_nodes", () -> index.nodeCount());
+        Metrics.gauge("suggest_candidates", () -> candidates.size());
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "keyword-suggest-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::rebuildQuietly, rebuildMs, rebuildMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 검색 한 번 기록 (keyword는 CachingSearchService.normalize를 거친 것)
+    // 서로 다른 키워드가 너무 많이 쌓이면(봇/무작위 입력) 새 키워드는 다음 재구성까지 세지 않음
+    public void record(String keyword) {
+        if (keyword.isEmpty() || keyword.length() > maxKeywordLength) {
+            return;
+        }
+        ConcurrentHashMap<String, LongAdder> counts = window.get();
+        LongAdder count = counts.get(keyword);
+        if (count == null) {
+            if (counts.size() >= maxTracked) {
+                dropped.increment();
+                return;
+            }
+            count = counts.computeIfAbsent(keyword, ignored -> new LongAdder());
+        }
+        count.increment();
+        recorded.increment();
+    }
+
+    // prefix로 시작하는 인기 검색어를 점수 순으로 최대 limit개
+    public List<String> suggest(String prefix, int limit) {
+        long start = System.nanoTime();
+        try {
+            String key = CachingSearchService.normalize(prefix);
+            if (key.isEmpty()) {
+                return List.of();
+            }
+            return index.suggest(key, limit);
+        } finally {
+            suggestTimer.recordSince(start);
+        }
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 예외가 밖으로 나가면 ScheduledExecutorService가 다음 실행을 멈추므로 여기서 삼킴
+            logger.error("keyword suggest rebuild failed", e);
+        }
+    }
+
+    // 재구성은 스케줄러 스레드 하나에서만 돌아서 lastRebuildAt/index 쓰기가 겹치지 않음 (close()의 마지막 실행 포함)
+    synchronized void rebuild() throws IOException {
+        long start = System.nanoTime();
+        long now = System.currentTimeMillis();
+        ConcurrentHashMap<String, LongAdder> counts = window.getAndSet(new ConcurrentHashMap<>());
+        double decay = Math.pow(0.5, (double) (now - lastRebuildAt) / halfLifeMs);
+        lastRebuildAt = now;
+
+        // 이미 인덱스에 있는 키워드는 점수에, 아니면 후보 점수에 이번 횟수를 더함
+        Map<String, Double> scores = new HashMap<>(index.size() + counts.size());
+        index.forEach((keyword, score) -> scores.put(keyword, score * decay));
+        Map<String, Candidate> pending = new HashMap<>(candidates);
+        counts.forEach((keyword, count) -> {
+            if (scores.containsKey(keyword)) {
+                scores.merge(keyword, (double) count.sum(), Double::sum);
+            } else {
+                pending.merge(keyword, new Candidate(count.sum(), now), Candidate::plus);
+            }
+        });
+        // minCount번이 된 후보는 그 횟수를 점수로 인덱스에 올라가고, 반감기 동안 안 찾은 후보는 버림
+        pending.entrySet().removeIf(entry -> {
+            Candidate candidate = entry.getValue();
+            if (candidate.count() >= minCount) {
+                scores.put(entry.getKey(), (double) candidate.count());
+                return true;
+            }
+            return now - candidate.lastSeenAt() > halfLifeMs;
+        });
+        candidates = pending.size() <= maxTracked ? pending : pending.entrySet().stream()
+                .sorted(Map.Entry.<String, Candidate>comparingByValue(
+                        Comparator.comparingLong(Candidate::count).thenComparingLong(Candidate::lastSeenAt)).reversed())
+                .limit(maxTracked)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        Map<String, Double> top = scores.entrySet().stream()
+                .filter(entry -> entry.getValue() >= MIN_SCORE)
+                .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(topK)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        index = PrefixIndex.build(top);
+        rebuildTimer.recordSince(start);
+        if (!counts.isEmpty()) {
+            writeSnapshot();
+        }
+        logger.debug(() -> "keyword suggest rebuilt: %d keywords, %d candidates (%d new searches)"
+                .formatted(top.size(), candidates.size(), counts.size()));
+    }
+
+    private record Candidate(long count, long lastSeenAt) {
+        Candidate plus(Candidate later) {
+            return new Candidate(count + later.count, Math.max(lastSeenAt, later.lastSeenAt));
+        }
+    }
+
+    // 임시 파일에 다 쓴 다음 바꿔치기 → 쓰는 도중에 죽어도 이전 스냅샷은 멀쩡함
+    private void writeSnapshot() throws IOException {
+        PrefixIndex current = index;
+        Files.createDirectories(snapshotPath.toAbsolutePath().getParent());
+        Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(current.size());
+            IOException[] failure = new IOException[1];
+            current.forEach((keyword, score) -> {
+                if (failure[0] != null) {
+                    return;
+                }
+                try {
+                    out.writeDouble(score);
+                    out.writeUTF(keyword);
+                } catch (IOException e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+        }
+        Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // 스냅샷이 없거나 깨졌으면 빈 인덱스로 시작 (자동완성은 없어도 검색은 되니까 서버 기동을 막지 않음)
+    private void loadSnapshot() {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                logger.info("KeywordSuggestService: ignoring unknown snapshot format " + snapshotPath);
+                return;
+            }
+            int count = in.readInt();
+            Map<String, Double> scores = new HashMap<>(count);
+            for (int i = 0; i < count; i++) {
+                double score = in.readDouble();
+                scores.put(in.readUTF(), score);
+            }
+            index = PrefixIndex.build(scores);
+            // 스냅샷을 쓴 뒤로 지난 시간만큼은 첫 재구성 때 감쇠되도록
+            lastRebuildAt = Files.getLastModifiedTime(snapshotPath).toMillis();
+            logger.info("KeywordSuggestService: %d keywords loaded from %s".formatted(count, snapshotPath));
+        } catch (NoSuchFileException e) {
+            logger.info("KeywordSuggestService: no snapshot at " + snapshotPath);
+        } catch (IOException e) {
+            logger.error("KeywordSuggestService: failed to load snapshot " + snapshotPath, e);
+        }
+    }
+
+    // 종료할 때 남은 횟수까지 반영해서 스냅샷을 남김
+    @Override
+    public void close() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        rebuildQuietly();
+    }
+}
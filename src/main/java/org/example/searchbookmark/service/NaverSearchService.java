@@ -7,6 +7,7 @@ import org.example.searchbookmark.util.NaverSearchAPI;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 // 이 클래스는 Service 역할을 함을 Spring에게 알려줌
 // → 자동으로 Bean으로 등록돼서 Controller에 주입 가능
@@ -26,9 +27,16 @@ public class NaverSearchService implements SearchService // SearchService 구현
     @Override
     public List<KeywordSearch> searchByKeyword(String keyword) throws Exception {
  
-        logger.info("searchByKeyword keyword: %s".formatted(keyword));
+        logger.info(() -> "searchByKeyword keyword: %s".formatted(keyword));
         
          // 네이버 API에 요청을 보내고 결과(List<KeywordSearch>)를 받아서 그대로 반환
         return naverSearchAPI.callAPI(new NaverSearchParam(keyword));
     }
+
+    // HttpClient.sendAsync 기반이라 응답을 기다리는 동안 스레드를 붙잡지 않음
+    @Override
+    public CompletableFuture<List<KeywordSearch>> searchByKeywordAsync(String keyword) {
+        logger.info(() -> "searchByKeywordAsync keyword: %s".formatted(keyword));
+        return naverSearchAPI.callAPIAsync(new NaverSearchParam(keyword));
+    }
 }
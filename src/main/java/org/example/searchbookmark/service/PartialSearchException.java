@@ -0,0 +1,21 @@
+package org.example.searchbookmark.service;
+
+import org.example.searchbookmark.model.vo.KeywordSearch;
+
+import java.util.List;
+
+// 여러 요청으로 나눠 검색했는데(FederatedSearchService) 절반 넘게 실패한 경우
+// 모은 결과는 들고 있지만 "정상 결과"는 아니라서 예외로 알림
+// → CachingSearchService는 이걸 캐시에 넣지 않고, 예전 결과(stale)가 있으면 그걸, 없으면 이 부분 결과를 돌려줌
+public class PartialSearchException extends Exception {
+    private final List<KeywordSearch> results;
+
+    public PartialSearchException(String message, List<KeywordSearch> results, Throwable cause) {
+        super(message, cause);
+        this.results = results;
+    }
+
+    public List<KeywordSearch> results() {
+        return results;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.searchbookmark.service;
+
+import org.example.searchbookmark.model.vo.KeywordSearch;
+
+import java.util.List;
+
+// 검색 결과를 "결과 uuid → 결과" 로 잠깐 보관하는 저장소
+// 예전에는 사용자마다 HttpSession에 검색 결과 Map을 통째로 넣어서 세션이 계속 커지고,
+// 북마크 요청이 꼭 같은 서버(sticky session)로 가야 했어요.
+// 이제는 모든 사용자가 같은 저장소를 쓰고, 구현체는 AppConfig에서 RESULT_STORE 값으로 골라요.
+// - memory/file: 그 서버 안에서만 보임 → 서버가 여러 대면 여전히 sticky session이 필요
+// - db: 모든 서버가 같은 테이블을 봄 → 어느 서버로 북마크 요청이 가도 됨
+public interface SearchResultStore {
+    // 검색 결과를 저장 (이미 있으면 만료 시간만 연장)
+    void putAll(List<KeywordSearch> results);
+
+    // uuid로 검색 결과 하나를 꺼냄 (없거나 만료됐으면 null)
+    KeywordSearch get(String uuid);
+}
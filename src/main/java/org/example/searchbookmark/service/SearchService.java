@@ -4,8 +4,22 @@ import org.example.searchbookmark.model.vo.KeywordSearch;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 //@Service // Spring Container 에 Component 로 등록
 public interface SearchService {
     List<KeywordSearch> searchByKeyword(String keyword) throws Exception;
+
+    // 비동기 검색: 결과 대신 "나중에 결과가 들어올 Future"를 바로 돌려줌
+    // 기본 구현은 동기 메서드를 다른 스레드에서 돌리는 것 → 진짜 논블로킹이 가능한 구현체는 오버라이드
+    default CompletableFuture<List<KeywordSearch>> searchByKeywordAsync(String keyword) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return searchByKeyword(keyword);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
 }
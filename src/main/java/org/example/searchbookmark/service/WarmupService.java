@@ -0,0 +1,287 @@
+package org.example.searchbookmark.service;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.example.searchbookmark.config.ReadRouting;
+import org.example.searchbookmark.config.RoutingDataSource;
+import org.example.searchbookmark.model.mapper.BookmarkMapper;
+import org.example.searchbookmark.model.vo.BookmarkCursor;
+import org.example.searchbookmark.model.vo.BookmarkSummary;
+import org.example.searchbookmark.model.vo.KeywordSearch;
+import org.example.searchbookmark.util.DotenvMixin;
+import org.example.searchbookmark.util.KoreanTokenizer;
+import org.example.searchbookmark.util.Metrics;
+import org.example.searchbookmark.util.MyLogger;
+import org.example.searchbookmark.util.NaverResponseParser;
+import org.example.searchbookmark.util.NaverSearchAPI;
+import org.example.searchbookmark.util.ObjectMapperMixin;
+import org.example.searchbookmark.util.UuidV7;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 배포 직후 첫 요청들이 느린 이유(콜드 스타트)를 서버가 "준비됨"이라고 말하기 전에 미리 치워두는 서비스
+// 1) db      : 커넥션 풀을 미리 채움 (primary + 읽기 복제본) → 첫 요청이 TCP/TLS/인증을 기다리지 않음
+// 2) mapper  : BookmarkMapper 조회를 커넥션마다 몇 번씩 실행 → 드라이버 PreparedStatement 캐시(서버 prepare) + MyBatis 경로
+// 3) upstream: 네이버와 HTTP/2 연결을 미리 열어둠 (할당량을 쓰지 않는 HEAD)
+// 4) jit     : JSON 파싱/매핑, 토크나이저, 커서 인코딩을 여러 번 돌려서 JIT 컴파일이 끝난 상태로 만듦
+// 끝나면 isReady()가 true → GET /ready 가 200 (그 전에는 503이라 로드밸런서/쿠버네티스가 트래픽을 보내지 않음)
+// 단계가 실패해도(DB가 아직 안 뜸 등) 준비 완료로 넘어가요. 워밍업은 속도를 위한 것이지 헬스 체크가 아니라서
+// 실패한 단계는 status()에 남겨둠.
+//
+// 얼마나 효과가 있는지는 JVM 시작 기준 시간으로 잼 (GET /metrics)
+// - startup_ready_seconds              : JVM 시작 → 준비 완료
+// - startup_warmup_seconds             : 워밍업에 걸린 시간
+// - startup_first_fast_request_seconds : JVM 시작 → 처음으로 WARMUP_FAST_REQUEST_MS 안에 끝난 요청
+// - startup_slow_requests_total        : 그 전까지 느렸던 요청 수
+@Service
+public class WarmupService implements DotenvMixin, ObjectMapperMixin {
+    private final MyLogger logger = new MyLogger(this.getClass().getName());
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final BookmarkMapper bookmarkMapper;
+    private final NaverSearchAPI naverSearchAPI;
+    private final ExecutorService applicationExecutor;
+
+    private final boolean enabled;
+    private final int dbConnections;
+    private final int mapperRounds;
+    private final int jitIterations;
+    private final long upstreamTimeoutMs;
+    private final long fastRequestNanos;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile boolean ready;
+    private volatile long warmupNanos = -1;
+    private volatile long readyAtNanos = -1;     // JVM 시작 기준
+    private final AtomicLong firstFastRequestNanos = new AtomicLong(-1); // JVM 시작 기준
+    private final LongAdder slowRequests = Metrics.counter("startup_slow_requests_total");
+    // 단계 이름 → 걸린 시간(ms) 또는 오류 메시지 (GET /ready 응답에 그대로 나감)
+    private final Map<String, Object> steps = new LinkedHashMap<>();
+
+    public WarmupService(SqlSessionFactory sqlSessionFactory, BookmarkMapper bookmarkMapper,
+                         NaverSearchAPI naverSearchAPI, ExecutorService applicationExecutor) {
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.bookmarkMapper = bookmarkMapper;
+        this.naverSearchAPI = naverSearchAPI;
+        this.applicationExecutor = applicationExecutor;
+        this.enabled = Boolean.parseBoolean(dotenv.get("WARMUP_ENABLED", "true"));
+        this.dbConnections = Integer.parseInt(dotenv.get("WARMUP_DB_CONNECTIONS", dotenv.get("DB_POOL_MAX_ACTIVE", "10")));
+        this.mapperRounds = Integer.parseInt(dotenv.get("WARMUP_MAPPER_ROUNDS", "20"));
+        this.jitIterations = Integer.parseInt(dotenv.get("WARMUP_JIT_ITERATIONS", "5000"));
+        this.upstreamTimeoutMs = Long.parseLong(dotenv.get("WARMUP_UPSTREAM_TIMEOUT_MS", "3000"));
+        this.fastRequestNanos = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(dotenv.get("WARMUP_FAST_REQUEST_MS", "100")));
+        Metrics.gauge("startup_ready_seconds", () -> seconds(readyAtNanos));
+        Metrics.gauge("startup_warmup_seconds", () -> seconds(warmupNanos));
+        Metrics.gauge("startup_first_fast_request_seconds", () -> seconds(firstFastRequestNanos.get()));
+    }
+
+    // 스프링 컨테이너가 다 뜬 뒤에 시작 (서버 기동 자체는 막지 않고, 그동안 /ready 는 503)
+    @EventListener(ContextRefreshedEvent.class)
+    public void warmUpOnStartup() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        if (!enabled) {
+            markReady(0);
+            return;
+        }
+        applicationExecutor.execute(() -> {
+            long start = System.nanoTime();
+            step("db", this::fillPools);
+            step("mapper", this::prepareStatements);
+            step("upstream", this::openUpstream);
+            step("jit", this::compileHotPaths);
+            markReady(System.nanoTime() - start);
+            logger.info(() -> "warm-up finished in %d ms (ready %d ms after JVM start): %s".formatted(
+                    TimeUnit.NANOSECONDS.toMillis(warmupNanos), TimeUnit.NANOSECONDS.toMillis(readyAtNanos), status()));
+        });
+    }
+
+    private void step(String name, Runnable work) {
+        long start = System.nanoTime();
+        Object result;
+        try {
+            work.run();
+            result = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            logger.error("warm-up step " + name + " failed", e);
+            result = "failed: " + e;
+        }
+        synchronized (steps) {
+            steps.put(name, result);
+        }
+    }
+
+    private void markReady(long tookNanos) {
+        warmupNanos = tookNanos;
+        readyAtNanos = sinceJvmStart();
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // GET /ready 응답 본문
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("ready", ready);
+        status.put("warmupMs", warmupNanos < 0 ? null : TimeUnit.NANOSECONDS.toMillis(warmupNanos));
+        status.put("readyAfterStartMs", readyAtNanos < 0 ? null : TimeUnit.NANOSECONDS.toMillis(readyAtNanos));
+        long firstFast = firstFastRequestNanos.get();
+        status.put("firstFastRequestAfterStartMs", firstFast < 0 ? null : TimeUnit.NANOSECONDS.toMillis(firstFast));
+        status.put("slowRequestsBeforeFirstFast", slowRequests.sum());
+        synchronized (steps) {
+            status.put("steps", new LinkedHashMap<>(steps));
+        }
+        return status;
+    }
+
+    // 요청 하나가 끝날 때마다 호출됨 (RequestTimingInterceptor)
+    // 처음으로 빠르게 끝난 요청의 시각만 기록하고, 그 뒤로는 비교 한 번으로 끝
+    public void onRequestCompleted(long elapsedNanos) {
+        if (firstFastRequestNanos.get() >= 0) {
+            return;
+        }
+        if (elapsedNanos <= fastRequestNanos) {
+            firstFastRequestNanos.compareAndSet(-1, sinceJvmStart());
+        } else {
+            slowRequests.increment();
+        }
+    }
+
+    // 1) 풀 크기만큼 커넥션을 동시에 빌려서 풀이 실제로 커넥션을 만들게 한 뒤 한꺼번에 돌려줌
+    //    (하나씩 빌리고 바로 돌려주면 같은 커넥션만 계속 재사용돼서 풀이 안 채워짐)
+    private void fillPools() {
+        DataSource dataSource = sqlSessionFactory.getConfiguration().getEnvironment().getDataSource();
+        if (dataSource instanceof RoutingDataSource routing) {
+            borrowAll(routing.primary(), dbConnections);
+            // 복제본은 least-outstanding 으로 고르니까 복제본 수 × 풀 크기만큼 빌리면 골고루 채워짐
+            ReadRouting.readOnly(() -> {
+                borrowAll(routing, dbConnections * routing.replicaCount());
+                return null;
+            });
+        } else {
+            borrowAll(dataSource, dbConnections);
+        }
+    }
+
+    private static void borrowAll(DataSource dataSource, int count) {
+        List<Connection> borrowed = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                borrowed.add(dataSource.getConnection());
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("could not open %d connections".formatted(count), e);
+        } finally {
+            for (Connection connection : borrowed) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // 돌려주다 실패한 커넥션은 풀이 알아서 버림
+                }
+            }
+        }
+    }
+
+    // 2) 커넥션 수만큼 작업을 동시에 돌려서 커넥션마다 조회 SQL이 prepare되게 함
+    //    (PostgreSQL은 prepareThreshold, MySQL은 useServerPrepStmts 캐시 - HikariDataSourceFactory 참고)
+    //    없는 id로 조회하므로 북마크 캐시나 결과에는 아무 영향이 없음
+    private void prepareStatements() {
+        BookmarkCursor cursor = new BookmarkCursor(new Timestamp(System.currentTimeMillis()), UuidV7.next());
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < dbConnections; i++) {
+            tasks.add(CompletableFuture.runAsync(() -> {
+                for (int round = 0; round < mapperRounds; round++) {
+                    bookmarkMapper.getOneBookmark(UuidV7.next());
+                    bookmarkMapper.listBookmarks(null, 1);
+                    ReadRouting.readOnly(() -> bookmarkMapper.getOneBookmark(UuidV7.next()));
+                    ReadRouting.readOnly(() -> bookmarkMapper.listBookmarks(cursor, 1));
+                }
+            }, applicationExecutor));
+        }
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+    }
+
+    // 3) 네이버 연결 열기 (못 열어도 준비 완료는 막지 않음 - 첫 검색이 연결 비용을 낼 뿐)
+    private void openUpstream() {
+        int status = naverSearchAPI.warmUp().orTimeout(upstreamTimeoutMs, TimeUnit.MILLISECONDS).join();
+        logger.info(() -> "upstream connection opened (HEAD status %d)".formatted(status));
+    }
+
+    // 4) 요청마다 도는 CPU 경로를 C2가 컴파일할 만큼 반복 (기본 5000번)
+    //    네이버 응답 파싱(gzip 없이/있이) → KeywordSearch 매핑 → 토큰화 → 커서 인코딩/디코딩 → 응답 JSON 직렬화
+    private void compileHotPaths() {
+        NaverResponseParser parser = new NaverResponseParser();
+        byte[] sample = sampleNaverResponse(10);
+        long sink = 0;
+        try {
+            for (int i = 0; i < jitIterations; i++) {
+                List<KeywordSearch> results = parser.parse(new ByteArrayInputStream(sample), false);
+                for (KeywordSearch result : results) {
+                    sink += KoreanTokenizer.tokenize(result.title()).size();
+                    sink += KoreanTokenizer.tokenize(result.description()).size();
+                }
+                KeywordSearch first = results.get(0);
+                BookmarkSummary summary = new BookmarkSummary(UuidV7.next(), first.title(), first.date(),
+                        new Timestamp(System.currentTimeMillis()));
+                sink += BookmarkCursor.decode(BookmarkCursor.of(summary).encode()).bookmarkId().hashCode();
+                sink += objectMapper.writeValueAsBytes(results).length;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long checksum = sink;
+        logger.debug(() -> "jit warm-up checksum " + checksum); // 결과를 써야 JIT이 반복문을 통째로 지우지 않음
+    }
+
+    // NaverSearchAPI가 받는 블로그 검색 응답과 같은 모양의 JSON (한글, <b> 태그, 쓰지 않는 필드 포함)
+    private static byte[] sampleNaverResponse(int items) {
+        StringBuilder json = new StringBuilder(512 + items * 400);
+        json.append("{\"lastBuildDate\":\"Fri, 17 Oct 2026 10:00:00 +0900\",\"total\":123456,\"start\":1,")
+                .append("\"display\":").append(items).append(",\"items\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"title\":\"<b>고양이</b> 사료 추천 후기 ").append(i).append("\",")
+                    .append("\"link\":\"https://blog.naver.com/example/2234567").append(i).append("\",")
+                    .append("\"description\":\"집사 3년 차가 직접 먹여본 <b>고양이</b> 사료 비교입니다. 항목 번호 ")
+                    .append(i).append("\",")
+                    .append("\"bloggername\":\"냥집사\",\"bloggerlink\":\"blog.naver.com/example\",")
+                    .append("\"postdate\":\"20261017\"}");
+        }
+        json.append("]}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long sinceJvmStart() {
+        long uptimeMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        return TimeUnit.MILLISECONDS.toNanos(uptimeMs);
+    }
+
+    private static double seconds(long nanos) {
+        return nanos < 0 ? Double.NaN : nanos / 1e9;
+    }
+}
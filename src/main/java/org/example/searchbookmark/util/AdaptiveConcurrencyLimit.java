@@ -0,0 +1,86 @@
+package org.example.searchbookmark.util;
+
+// 외부 API 동시 요청 수 상한을 응답 시간에 맞춰 자동으로 조절 (Netflix concurrency-limits의 Gradient 방식을 단순화)
+// - 평소 응답 시간(longRtt)과 최근 응답 시간(shortRtt, 빨리 따라감)을 비교해서
+//   최근이 더 느려졌으면(= 상대방에 줄이 생기기 시작) 상한을 줄이고, 그렇지 않으면 조금씩 늘림
+// - longRtt는 빨라질 때는 빨리, 느려질 때는 아주 천천히 따라가서 "한가할 때의 응답 시간"에 가깝게 유지됨
+//   → 네이버가 계속 느린 동안에는 상한도 계속 낮게 유지돼요.
+// - 타임아웃/429/5xx 같은 "과부하 신호"가 오면 바로 10% 줄임
+// 고정 Semaphore와 달리 네이버가 느려지면 동시에 붙잡혀 있는 스레드 수도 같이 줄어들어요.
+public class AdaptiveConcurrencyLimit {
+    private static final double SHORT_ALPHA = 0.1;
+    private static final double LONG_ALPHA_UP = 0.001;
+    private static final double LONG_ALPHA_DOWN = 0.1;
+    private static final double TOLERANCE = 1.5;   // 평소보다 1.5배 느려질 때까지는 정상으로 봄
+    private static final double SMOOTHING = 0.2;   // 한 번에 새 값 쪽으로 20%만 이동
+    private static final double BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private double limit;
+    private int inFlight;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    // tryAcquire()는 통과했지만 요청을 보내지 못한 경우 → 응답 시간 없이 자리만 돌려줌
+    public synchronized void releaseUnused() {
+        inFlight = Math.max(0, inFlight - 1);
+    }
+
+    // 요청이 끝났을 때 호출 (rttNanos: 걸린 시간, overloaded: 타임아웃/429/5xx 여부)
+    public synchronized void release(long rttNanos, boolean overloaded) {
+        int inFlightAtCompletion = inFlight;
+        inFlight = Math.max(0, inFlight - 1);
+        if (overloaded) {
+            limit = Math.max(minLimit, limit * BACKOFF);
+            return;
+        }
+        rttNanos = Math.max(1, rttNanos);
+        if (longRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+        } else {
+            shortRttNanos += SHORT_ALPHA * (rttNanos - shortRttNanos);
+            double alpha = rttNanos < longRttNanos ? LONG_ALPHA_DOWN : LONG_ALPHA_UP;
+            longRttNanos += alpha * (rttNanos - longRttNanos);
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / shortRttNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit); // sqrt(limit): 약간의 대기열 여유
+        // 상한까지 쓰고 있지도 않은데 늘리면 의미가 없으니, 절반 이상 쓰고 있을 때만 늘림
+        if (newLimit > limit && inFlightAtCompletion * 2 < limit) {
+            return;
+        }
+        limit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, limit));
+    }
+
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    public synchronized double shortRttMillis() {
+        return shortRttNanos / 1_000_000d;
+    }
+
+    public synchronized double longRttMillis() {
+        return longRttNanos / 1_000_000d;
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.searchbookmark.util;
+
+import org.example.searchbookmark.model.vo.KeywordSearch;
+
+import java.io.IOException;
+import java.io.Writer;
+
+// 북마크 내보내기 형식
+// - CSV   : 엑셀 등에서 열기 좋음 (맨 앞에 BOM을 붙여서 엑셀에서도 한글이 안 깨지게 함)
+// - NDJSON: 한 줄에 JSON 하나 → 받는 쪽도 한 줄씩 읽으면서 처리할 수 있음
+public enum BookmarkExportFormat implements ObjectMapperMixin {
+    CSV("text/csv; charset=UTF-8", "csv") {
+        @Override
+        public void writeHeader(Writer writer) throws IOException {
+            writer.write('\uFEFF'); // BOM
+            writer.write("bookmark_id,title,link,description,date,created_at\r\n");
+        }
+
+        @Override
+        public void writeRow(Writer writer, KeywordSearch bookmark) throws IOException {
+            writer.write(csv(bookmark.uuid()));
+            writer.write(',');
+            writer.write(csv(bookmark.title()));
+            writer.write(',');
+            writer.write(csv(bookmark.link()));
+            writer.write(',');
+            writer.write(csv(bookmark.description()));
+            writer.write(',');
+            writer.write(csv(bookmark.date()));
+            writer.write(',');
+            writer.write(csv(bookmark.createdAt()));
+            writer.write("\r\n");
+        }
+    },
+    NDJSON("application/x-ndjson; charset=UTF-8", "ndjson") {
+        @Override
+        public void writeRow(Writer writer, KeywordSearch bookmark) throws IOException {
+            writer.write(objectMapper.writeValueAsString(bookmark));
+            writer.write('\n');
+        }
+    };
+
+    private final String contentType;
+    private final String extension;
+
+    BookmarkExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public void writeHeader(Writer writer) throws IOException {
+    }
+
+    public abstract void writeRow(Writer writer, KeywordSearch bookmark) throws IOException;
+
+    // 쉼표, 따옴표, 줄바꿈이 들어 있으면 "..." 로 감싸고 안의 따옴표는 두 번 씀 (RFC 4180)
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
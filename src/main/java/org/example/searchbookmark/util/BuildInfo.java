@@ -0,0 +1,38 @@
+package org.example.searchbookmark.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+
+// 빌드할 때 Maven이 채워 넣은 build.properties (버전, 빌드 시각)
+// 같은 war로 띄운 서버들은 모두 같은 값이고, 재시작해도 바뀌지 않음 → ETag처럼 서버끼리 맞아야 하는 값에 씀
+// IDE에서 필터링 없이 실행하면 "${...}" 가 그대로 들어 있어서 "dev"로 대신함
+public final class BuildInfo {
+    private static final Properties properties = load();
+
+    private BuildInfo() {
+    }
+
+    // 예: "1.0-SNAPSHOT-20261017103000"
+    public static String version() {
+        return value("build.version") + "-" + value("build.timestamp");
+    }
+
+    private static String value(String key) {
+        String value = properties.getProperty(key, "dev");
+        return value.startsWith("${") ? "dev" : value;
+    }
+
+    private static Properties load() {
+        Properties properties = new Properties();
+        try (InputStream in = BuildInfo.class.getResourceAsStream("/build.properties")) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,161 @@
+package org.example.searchbookmark.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// 서킷 브레이커: 외부 API가 계속 실패하면 한동안 아예 호출하지 않고 바로 실패시킴
+// - CLOSED   : 정상. 최근 windowSize번 호출 중 실패 비율이 failureRateThreshold 이상이면 OPEN
+// - OPEN     : openMs 동안 호출하지 않음 (tryAcquire() == null) → 스레드가 타임아웃까지 붙잡혀 있지 않음
+// - HALF_OPEN: openMs가 지나면 halfOpenTrials번만 시험 삼아 호출 → 다 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+// 상태가 바뀔 때마다 generation이 1씩 늘어남
+// 호출 결과는 tryAcquire가 돌려준 Permit과 같이 알려줘야 하고, 그 사이 상태가 바뀌었으면(다른 generation) 무시함
+//   → OPEN 되기 전에 보낸 느린 호출이 HALF_OPEN 시험 호출 자리를 돌려주거나 시험 결과로 세지는 일이 없음
+public class CircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    // 호출 한 번의 허가증: 어느 generation에서 받았는지, HALF_OPEN 시험 호출인지
+    public record Permit(long generation, boolean trial) { }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openMs;
+    private final int halfOpenTrials;
+
+    // 최근 호출 결과 (true = 실패), 링 버퍼
+    private final boolean[] window;
+    private int next;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+    private int trialsInFlight;
+    private int trialSuccesses;
+
+    private final LongAdder opened = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openMs, int halfOpenTrials) {
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openMs = openMs;
+        this.halfOpenTrials = halfOpenTrials;
+        this.window = new boolean[windowSize];
+    }
+
+    // 호출해도 되면 Permit, 안 되면 null
+    // Permit을 받았으면 호출 후 반드시 onSuccess/onFailure/releaseUnused 중 하나에 그대로 넘겨야 함
+    public synchronized Permit tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openMs) {
+                rejected.increment();
+                return null;
+            }
+            transition(State.HALF_OPEN);
+            trialsInFlight = 0;
+            trialSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialsInFlight >= halfOpenTrials) {
+                rejected.increment();
+                return null;
+            }
+            trialsInFlight++;
+            return new Permit(generation, true);
+        }
+        return new Permit(generation, false);
+    }
+
+    // tryAcquire()는 통과했지만 다른 이유(속도 제한 등)로 실제 호출은 하지 않은 경우 → 결과로 세지 않고 자리만 돌려줌
+    public synchronized void releaseUnused(Permit permit) {
+        if (isCurrentTrial(permit)) {
+            trialsInFlight--;
+        }
+    }
+
+    public synchronized void onSuccess(Permit permit) {
+        if (permit.generation() != generation) {
+            return; // 상태가 바뀌기 전에 보낸 호출 → 지금 상태와 상관없음
+        }
+        if (permit.trial()) {
+            trialsInFlight--;
+            if (++trialSuccesses >= halfOpenTrials) {
+                close();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure(Permit permit) {
+        if (permit.generation() != generation) {
+            return;
+        }
+        if (permit.trial()) {
+            open();
+            return;
+        }
+        record(true);
+        if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    // 같은 generation의 시험 호출만 trialsInFlight를 건드림 (HALF_OPEN이 끝났으면 generation이 이미 바뀜)
+    private boolean isCurrentTrial(Permit permit) {
+        return permit.trial() && permit.generation() == generation;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == windowSize) {
+            if (window[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % windowSize;
+    }
+
+    private void transition(State next) {
+        state = next;
+        generation++;
+    }
+
+    private void open() {
+        transition(State.OPEN);
+        openedAt = System.currentTimeMillis();
+        opened.increment();
+    }
+
+    private void close() {
+        transition(State.CLOSED);
+        recorded = 0;
+        failures = 0;
+        next = 0;
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    public synchronized double failureRate() {
+        return recorded == 0 ? 0 : (double) failures / recorded;
+    }
+
+    // CLOSED → OPEN 으로 바뀐 횟수
+    public long openedCount() {
+        return opened.sum();
+    }
+
+    // OPEN/HALF_OPEN 이라서 호출하지 못하고 바로 실패한 횟수
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.searchbookmark.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+// 개수(maxEntries)와 무게(maxWeight, 대략적인 바이트 수) 두 가지로 크기를 제한하는 LRU 캐시
+// - 항목마다 만료 시각(expiresAt)을 가지고 있어서 TTL이 지나면 자동으로 버려져요.
+// - LinkedHashMap(accessOrder = true)을 쓰면 "가장 오래 안 쓴 항목"이 맨 앞에 오기 때문에
+//   한도를 넘으면 앞에서부터 지우면 돼요.
+// - 임계 구역이 아주 짧아서(맵 조회/삽입만 함) 단순하게 synchronized로 보호해요.
+public class ExpiringLruCache<K, V> {
+
+    // 캐시에 저장되는 값 + 메타데이터 (언제 불러왔는지, 언제 만료되는지, 무게)
+    public record Entry<V>(V value, long loadedAt, long expiresAt, long weight) {
+        public boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    private final LinkedHashMap<K, Entry<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxEntries;
+    private final long maxWeight;
+    private final long defaultTtlMs;
+    private final ToLongFunction<V> weigher;
+    private long totalWeight;
+
+    private final LongAdder evictions = new LongAdder();   // 한도 초과로 밀려난 개수
+    private final LongAdder expirations = new LongAdder(); // TTL이 지나서 버려진 개수
+
+    public ExpiringLruCache(int maxEntries, long maxWeight, long defaultTtlMs, ToLongFunction<V> weigher) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.defaultTtlMs = defaultTtlMs;
+        this.weigher = weigher;
+    }
+
+    // 만료되지 않은 항목을 메타데이터와 함께 꺼냄 (없거나 만료됐으면 null)
+    public synchronized Entry<V> getEntry(K key) {
+        Entry<V> entry = map.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            map.remove(key);
+            totalWeight -= entry.weight();
+            expirations.increment();
+            return null;
+        }
+        return entry;
+    }
+
+    public V get(K key) {
+        Entry<V> entry = getEntry(key);
+        return entry == null ? null : entry.value();
+    }
+
+    public void put(K key, V value) {
+        put(key, value, defaultTtlMs);
+    }
+
+    // 항목마다 TTL을 다르게 줄 수 있음 (예: "없음" 결과는 짧게 캐싱)
+    public synchronized void put(K key, V value, long ttlMs) {
+        long now = System.currentTimeMillis();
+        long weight = weigher.applyAsLong(value);
+        Entry<V> previous = map.put(key, new Entry<>(value, now, now + ttlMs, weight));
+        if (previous != null) {
+            totalWeight -= previous.weight();
+        }
+        totalWeight += weight;
+        evictIfNeeded();
+    }
+
+    public synchronized void remove(K key) {
+        Entry<V> removed = map.remove(key);
+        if (removed != null) {
+            totalWeight -= removed.weight();
+        }
+    }
+
+    // 가장 오래 안 쓴 항목부터 한도 안으로 들어올 때까지 지움
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = map.entrySet().iterator();
+        while ((map.size() > maxEntries || totalWeight > maxWeight) && iterator.hasNext()) {
+            Entry<V> eldest = iterator.next().getValue();
+            iterator.remove();
+            totalWeight -= eldest.weight();
+            evictions.increment();
+        }
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public synchronized long weight() {
+        return totalWeight;
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public long expirations() {
+        return expirations.sum();
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.searchbookmark.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+// JSP에서 검색 결과(title, description, link)를 HTML에 넣을 때 쓰는 이스케이프
+// 네이버 응답은 "검색어 강조용 <b>...</b> 태그 + 이미 이스케이프된 엔티티(&quot; &amp;)" 가 섞인 문자열이라
+// 그대로 찍으면 <script> 같은 태그도 같이 들어가고, 통째로 이스케이프하면 &quot; 가 화면에 글자로 보여요.
+// - text      : <b>, </b> 만 태그로 살리고 나머지 < > " ' & 는 이스케이프 (이미 있는 엔티티는 그대로)
+// - attribute : 속성값(content=, value=)용. <b> 태그는 빼고 나머지는 text와 같음
+// - url       : href용. http/https 링크만 허용 (javascript: 같은 건 "#")
+// 문자열을 새로 만들지 않고 JspWriter(버퍼)에 바로 씀 - 바꿀 필요 없는 구간은 한 번에 write, 한 번만 훑음
+public final class HtmlEscaper {
+    // &name; 또는 &#123; 으로 볼 최대 길이 (가장 긴 자주 쓰는 엔티티 &hellip; 정도)
+    private static final int MAX_ENTITY_LENGTH = 10;
+
+    private HtmlEscaper() {
+    }
+
+    public static void text(Writer out, String value) throws IOException {
+        write(out, value, true);
+    }
+
+    public static void attribute(Writer out, String value) throws IOException {
+        write(out, value, false);
+    }
+
+    public static void url(Writer out, String value) throws IOException {
+        if (value != null && (value.regionMatches(true, 0, "https://", 0, 8) || value.regionMatches(true, 0, "http://", 0, 7))) {
+            write(out, value, false);
+        } else {
+            out.write('#');
+        }
+    }
+
+    private static void write(Writer out, String value, boolean keepBold) throws IOException {
+        if (value == null) {
+            return;
+        }
+        int length = value.length();
+        int runStart = 0; // 아직 쓰지 않은, 그대로 나가도 되는 구간의 시작
+        for (int i = 0; i < length; i++) {
+            String replacement;
+            switch (value.charAt(i)) {
+                case '<' -> {
+                    int tag = boldTagLength(value, i);
+                    if (tag == 0) {
+                        replacement = "&lt;";
+                    } else if (keepBold) {
+                        i += tag - 1; // 태그째로 구간에 포함
+                        continue;
+                    } else {
+                        out.write(value, runStart, i - runStart);
+                        i += tag - 1;
+                        runStart = i + 1; // 태그는 건너뜀
+                        continue;
+                    }
+                }
+                case '&' -> {
+                    if (isEntity(value, i)) {
+                        continue;
+                    }
+                    replacement = "&amp;";
+                }
+                case '>' -> replacement = "&gt;";
+                case '"' -> replacement = "&quot;";
+                case '\'' -> replacement = "&#39;";
+                default -> {
+                    continue;
+                }
+            }
+            out.write(value, runStart, i - runStart);
+            out.write(replacement);
+            runStart = i + 1;
+        }
+        out.write(value, runStart, length - runStart);
+    }
+
+    // i 위치가 <b> 또는 </b> 이면 그 길이, 아니면 0
+    private static int boldTagLength(String value, int i) {
+        if (value.startsWith("<b>", i) || value.startsWith("<B>", i)) {
+            return 3;
+        }
+        if (value.startsWith("</b>", i) || value.startsWith("</B>", i)) {
+            return 4;
+        }
+        return 0;
+    }
+
+    // i 위치의 &가 &amp; &quot; &#39; &#x27; 같은 엔티티의 시작인지
+    private static boolean isEntity(String value, int i) {
+        int end = Math.min(value.length(), i + MAX_ENTITY_LENGTH);
+        for (int j = i + 1; j < end; j++) {
+            char c = value.charAt(j);
+            if (c == ';') {
+                return j > i + 1 && value.charAt(j - 1) != '#';
+            }
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || (c == '#' && j == i + 1);
+            if (!allowed) {
+                return false;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.searchbookmark.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// 검색용 토크나이저 (형태소 분석기 없이 한국어를 다루는 가장 단순한 방법)
+// - 한글: 붙어 있는 글자를 2글자씩 겹쳐 자름 (bigram)  "고양이사료" → 고양, 양이, 이사, 사료
+//   조사가 붙어도("고양이가") 앞부분 bigram(고양, 양이)이 그대로 남아서 검색에 걸려요.
+// - 영문/숫자: 단어 하나를 그대로 토큰으로 (소문자로 통일)
+// - 네이버 결과에 섞여 오는 <b> 태그, &quot; 같은 HTML 엔티티는 지우고 시작
+// 한 글자짜리 한글 단어는 그 글자 하나가 토큰이 돼요.
+public final class KoreanTokenizer {
+    private static final Pattern MARKUP = Pattern.compile("<[^>]*>|&[a-zA-Z]+;|&#\\d+;");
+
+    private KoreanTokenizer() {}
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(MARKUP.matcher(text).replaceAll(" "), Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        int length = normalized.length();
+        while (i < length) {
+            int codePoint = normalized.codePointAt(i);
+            if (isHangul(codePoint)) {
+                int start = i;
+                while (i < length && isHangul(normalized.codePointAt(i))) {
+                    i += Character.charCount(normalized.codePointAt(i));
+                }
+                addBigrams(tokens, normalized.substring(start, i));
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(normalized.codePointAt(i)) && !isHangul(normalized.codePointAt(i))) {
+                    i += Character.charCount(normalized.codePointAt(i));
+                }
+                tokens.add(normalized.substring(start, i));
+            } else {
+                i += Character.charCount(codePoint);
+            }
+        }
+        return tokens;
+    }
+
+    // 한글 음절은 모두 BMP 안에 있어서 char 단위로 잘라도 안전
+    private static void addBigrams(List<String> tokens, String run) {
+        if (run.length() == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i + 1 < run.length(); i++) {
+            tokens.add(run.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isHangul(int codePoint) {
+        return Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.searchbookmark.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// 지연 시간(나노초)을 기록하는 가벼운 히스토그램 (HdrHistogram과 같은 로그-선형 버킷 방식)
+// - 값의 크기(2의 거듭제곱 구간)마다 16칸으로 나눠서 세기 때문에
+//   1µs든 10초든 항상 약 6% 오차 안에서 p50/p99 같은 백분위를 구할 수 있어요.
+// - 기록은 배열 한 칸을 원자적으로 +1 하는 것뿐이라 여러 스레드가 동시에 써도 락이 없어요.
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAGNITUDES = 64 - SUB_BUCKET_BITS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(MAGNITUDES * SUB_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumNanos = new LongAdder();
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(indexOf(value));
+        count.increment();
+        sumNanos.add(value);
+    }
+
+    // 시작 시각(System.nanoTime())부터 지금까지 걸린 시간을 기록
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long sumNanos() {
+        return sumNanos.sum();
+    }
+
+    // 백분위 값 (예: percentile(0.99) = p99), 버킷의 상한값을 돌려줌
+    public long percentileNanos(double quantile) {
+        long total = count();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return upperBoundOf(i);
+            }
+        }
+        return upperBoundOf(buckets.length() - 1);
+    }
+
+    public double percentileMillis(double quantile) {
+        return percentileNanos(quantile) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    // 경계값(나노초, 오름차순)마다 "그 값 이하로 기록된 개수"를 누적해서 돌려줌 (Prometheus histogram의 le 버킷)
+    // 경계에 걸친 칸은 칸 상한이 경계보다 크면 다음 경계로 셈 → 최대 약 6% 느린 쪽으로 치우침
+    // 마지막 경계를 Long.MAX_VALUE로 주면 그 칸이 전체 개수 (+Inf)
+    public long[] cumulativeCounts(long[] upperBoundsNanos) {
+        long[] counts = new long[upperBoundsNanos.length];
+        long seen = 0;
+        int bound = 0;
+        for (int i = 0; i < buckets.length() && bound < counts.length; i++) {
+            while (bound < counts.length && upperBoundOf(i) > upperBoundsNanos[bound]) {
+                counts[bound++] = seen;
+            }
+            seen += buckets.get(i);
+        }
+        while (bound < counts.length) {
+            counts[bound++] = seen;
+        }
+        return counts;
+    }
+
+    // 값 → 버킷 번호: 16보다 작은 값은 그대로, 그 이상은 (최상위 비트 위치, 그 아래 4비트)로 나눔
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS + 1;
+        int subBucket = (int) (value >>> (magnitude - 1)) & (SUB_BUCKETS - 1);
+        return Math.min(magnitude * SUB_BUCKETS + subBucket, MAGNITUDES * SUB_BUCKETS - 1);
+    }
+
+    private static long upperBoundOf(int index) {
+        int magnitude = index / SUB_BUCKETS;
+        int subBucket = index % SUB_BUCKETS;
+        if (magnitude == 0) {
+            return subBucket;
+        }
+        return ((long) (SUB_BUCKETS + subBucket + 1) << (magnitude - 1)) - 1;
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.searchbookmark.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+// 앱 전체에서 같이 쓰는 메트릭 저장소 (Prometheus가 긁어갈 수 있는 텍스트로 내보냄 → GET /metrics)
+// - timer  : 지연 시간 히스토그램 (LatencyHistogram) → histogram (le 버킷별 누적 개수 + 합계 + 개수)
+//            p99 같은 백분위는 Prometheus에서 rate로 원하는 구간만큼 잘라서 계산
+//            (histogram_quantile(0.99, rate(naver_call_seconds_bucket[5m])) → 서버가 뜬 뒤 전체가 아니라 최근 5분의 p99)
+// - counter: 계속 늘어나기만 하는 숫자 (LongAdder)     → counter
+// - gauge  : 읽을 때마다 현재 값을 계산하는 숫자       → gauge
+// 기록하는 쪽은 처음 한 번 timer()/counter()로 받아둔 객체에 record()/increment()만 하면 돼서
+// 요청 처리 중에는 맵 조회도 문자열 생성도 없어요. (내보낼 때만 문자열을 만듦)
+// labels는 이름/값을 번갈아 넘김: timer("mybatis_statement_seconds", "statement", "insertBookmark")
+public final class Metrics {
+    private record Key(String name, String labels) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int byName = name.compareTo(other.name);
+            return byName != 0 ? byName : labels.compareTo(other.labels);
+        }
+    }
+
+    // le 경계(초): 1ms ~ 10s, Prometheus 클라이언트 기본값과 비슷하게 (+Inf는 마지막에 따로)
+    private static final double[] BUCKET_SECONDS = {0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long[] BUCKET_NANOS = new long[BUCKET_SECONDS.length + 1];
+    static {
+        for (int i = 0; i < BUCKET_SECONDS.length; i++) {
+            BUCKET_NANOS[i] = (long) (BUCKET_SECONDS[i] * NANOS_PER_SECOND);
+        }
+        BUCKET_NANOS[BUCKET_SECONDS.length] = Long.MAX_VALUE;
+    }
+
+    // 내보낼 때 이름순으로 정렬돼 있어야 같은 이름끼리 # TYPE 줄 하나로 묶을 수 있음
+    private static final Map<Key, LatencyHistogram> timers = new ConcurrentSkipListMap<>();
+    private static final Map<Key, LongAdder> counters = new ConcurrentSkipListMap<>();
+    private static final Map<Key, DoubleSupplier> gauges = new ConcurrentSkipListMap<>();
+
+    private Metrics() {}
+
+    public static LatencyHistogram timer(String name, String... labels) {
+        return timers.computeIfAbsent(new Key(name, labels(labels)), key -> new LatencyHistogram());
+    }
+
+    // 이미 다른 곳에서 만든 히스토그램을 같은 이름으로 내보내고 싶을 때 (PoolMetrics 등)
+    public static void register(String name, LatencyHistogram histogram, String... labels) {
+        timers.put(new Key(name, labels(labels)), histogram);
+    }
+
+    public static LongAdder counter(String name, String... labels) {
+        return counters.computeIfAbsent(new Key(name, labels(labels)), key -> new LongAdder());
+    }
+
+    public static void gauge(String name, DoubleSupplier value, String... labels) {
+        gauges.put(new Key(name, labels(labels)), value);
+    }
+
+    // 풀이 닫히는 등 더 이상 값이 없을 때 지움 (같은 labels로 등록된 것만)
+    public static void unregister(String name, String... labels) {
+        Key key = new Key(name, labels(labels));
+        timers.remove(key);
+        counters.remove(key);
+        gauges.remove(key);
+    }
+
+    // Prometheus 텍스트 형식 (version 0.0.4)
+    public static String prometheus() {
+        StringBuilder out = new StringBuilder(4096);
+        String current = null;
+        for (Map.Entry<Key, LatencyHistogram> entry : timers.entrySet()) {
+            Key key = entry.getKey();
+            LatencyHistogram histogram = entry.getValue();
+            current = typeLine(out, current, key.name(), "histogram");
+            // _count는 +Inf 버킷과 같은 값이어야 해서 따로 읽지 않고 한 번에 센 값을 씀 (읽는 중에도 기록이 계속되니까)
+            long[] cumulative = histogram.cumulativeCounts(BUCKET_NANOS);
+            for (int i = 0; i < BUCKET_SECONDS.length; i++) {
+                sample(out, key.name() + "_bucket", join(key.labels(), "le=\"" + BUCKET_SECONDS[i] + "\""), cumulative[i]);
+            }
+            long count = cumulative[BUCKET_SECONDS.length];
+            sample(out, key.name() + "_bucket", join(key.labels(), "le=\"+Inf\""), count);
+            sample(out, key.name() + "_sum", key.labels(), histogram.sumNanos() / NANOS_PER_SECOND);
+            sample(out, key.name() + "_count", key.labels(), count);
+        }
+        for (Map.Entry<Key, LongAdder> entry : counters.entrySet()) {
+            current = typeLine(out, current, entry.getKey().name(), "counter");
+            sample(out, entry.getKey().name(), entry.getKey().labels(), entry.getValue().sum());
+        }
+        for (Map.Entry<Key, DoubleSupplier> entry : gauges.entrySet()) {
+            current = typeLine(out, current, entry.getKey().name(), "gauge");
+            sample(out, entry.getKey().name(), entry.getKey().labels(), entry.getValue().getAsDouble());
+        }
+        return out.toString();
+    }
+
+    private static String typeLine(StringBuilder out, String current, String name, String type) {
+        if (!name.equals(current)) {
+            out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        }
+        return name;
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ');
+        if (value == Math.rint(value) && !Double.isInfinite(value)) {
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+
+    private static String join(String labels, String extra) {
+        return labels.isEmpty() ? extra : labels + "," + extra;
+    }
+
+    private static String labels(String... pairs) {
+        if (pairs.length % 2 != 0) {
+            throw new IllegalArgumentException("labels must be name/value pairs");
+        }
+        StringBuilder labels = new StringBuilder();
+        for (int i = 0; i < pairs.length; i += 2) {
+            if (i > 0) {
+                labels.append(',');
+            }
+            labels.append(pairs[i]).append("=\"").append(escape(pairs[i + 1])).append('"');
+        }
+        return labels.toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.searchbookmark.util;
 
+import java.util.function.Supplier;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class MyLogger {
@@ -15,4 +17,29 @@ public class MyLogger {
     public void error(String message) {
         logger.severe(message);
     }
+
+    // Supplier 버전: 해당 레벨이 꺼져 있으면 메시지를 아예 만들지 않음
+    // 예: logger.info(() -> "keyword: %s".formatted(keyword))
+    //     → INFO가 꺼져 있으면 formatted()가 호출되지 않아서 비용이 0에 가까움
+    // 요청마다 찍히는 로그는 이쪽을 쓰세요.
+    public void info(Supplier<String> message) {
+        logger.info(message);
+    }
+
+    public void error(Supplier<String> message) {
+        logger.severe(message);
+    }
+
+    // 개발할 때만 보는 자세한 로그 (java.util.logging의 FINE, 기본 설정에서는 안 찍힘)
+    public void debug(Supplier<String> message) {
+        logger.fine(message);
+    }
+
+    public void error(String message, Throwable error) {
+        logger.log(Level.SEVERE, message, error);
+    }
+
+    public boolean isDebugEnabled() {
+        return logger.isLoggable(Level.FINE);
+    }
 }
@@ -0,0 +1,57 @@
+package org.example.searchbookmark.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.example.searchbookmark.model.vo.KeywordSearch;
+import org.example.searchbookmark.model.vo.NaverSearchResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+// 네이버 응답(JSON)을 스트림에서 바로 읽어서 KeywordSearch 목록으로 바꿔주는 파서
+// 예전 방식: 응답 전체를 String으로 받기 → NaverSearchResult(List<Item>)로 변환 → KeywordSearch로 한 번 더 변환
+// 지금 방식: 바이트를 읽으면서 "items" 배열 안의 항목을 하나씩 꺼내 바로 KeywordSearch로 만듦
+//           → 응답 전체 문자열과 중간 리스트를 만들지 않아서 요청당 메모리 할당이 줄어요.
+public class NaverResponseParser implements ObjectMapperMixin {
+    // Item 하나를 읽는 reader는 한 번만 만들어두고 재사용 (만들 때 비용이 있고, 만든 뒤에는 thread-safe)
+    private static final ObjectReader itemReader = objectMapper.readerFor(NaverSearchResult.Item.class);
+
+    // gzip: Content-Encoding이 gzip이면 압축을 풀면서 읽음
+    public List<KeywordSearch> parse(InputStream body, boolean gzip) throws IOException {
+        try (InputStream in = gzip ? new GZIPInputStream(body) : body;
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            List<KeywordSearch> results = new ArrayList<>();
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("unexpected Naver response: " + parser.currentToken());
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("items".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        results.add(toKeywordSearch(itemReader.readValue(parser)));
+                    }
+                } else {
+                    parser.skipChildren(); // total, lastBuildDate 등 필요 없는 값은 건너뜀
+                }
+            }
+            return results;
+        }
+    }
+
+    // 네이버 항목 하나 → KeywordSearch (벤치마크에서 매핑 비용만 따로 재려고 public)
+    public static KeywordSearch toKeywordSearch(NaverSearchResult.Item item) {
+        return new KeywordSearch(
+                UuidV7.nextString(), // uuid 생성 (시간순, SecureRandom을 거치지 않아 빠름)
+                item.title(),
+                item.link(),
+                item.description(),
+                item.postdate() == null ? "" : item.postdate(), // 카페/웹문서는 날짜가 없음 (DB의 date 컬럼은 not null)
+                null // createdAt은 북마크로 저장될 때 DB가 채움
+        );
+    }
+}
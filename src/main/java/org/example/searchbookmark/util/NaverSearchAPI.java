@@ -1,46 +1,317 @@
+package org.example.searchbookmark.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.example.searchbookmark.model.vo.KeywordSearch;
+import org.example.searchbookmark.model.vo.NaverSearchParam;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
 @Component // 스프링 컴포넌트로 등록 (서비스에서 사용할 수 있게)
 public class NaverSearchAPI implements DotenvMixin, ObjectMapperMixin {
 
     private static final Log log = LogFactory.getLog(NaverSearchAPI.class);
     private final MyLogger logger = new MyLogger(this.getClass().getSimpleName());
-    private final HttpClient httpClient = HttpClient.newHttpClient(); // 자바 11 내장 HTTP 클라이언트
+    private final HttpClient httpClient; // 자바 11 내장 HTTP 클라이언트
+    // 응답 본문(스트림)을 읽는 작업은 블로킹이라 HttpClient 내부 스레드 대신 이 실행기에서 돌림
+    private final ExecutorService applicationExecutor;
+    private final NaverResponseParser parser = new NaverResponseParser();
+
+    // 네이버 API 주소 (로컬 테스트용 가짜 서버로 바꿔 끼울 수 있게 .env로 뺌)
+    private final String baseUrl = dotenv.get("NAVER_API_BASE_URL", "https://openapi.naver.com");
+    // 요청 하나가 응답 헤더를 받을 때까지 기다리는 최대 시간 (HttpRequest.timeout)
+    // 본문을 다 읽고 변환하는 것까지 포함한 전체 마감도 같은 값 (본문을 찔끔찔끔 보내는 응답이 스레드/동시 요청 자리를 붙잡지 않도록)
+    private final Duration requestTimeout = Duration.ofMillis(Long.parseLong(dotenv.get("NAVER_TIMEOUT_MS", "3000")));
+
+    // ── 장애 대응(resilience) ──
+    // 1) 속도 제한: 네이버 할당량(초당/일일)을 넘기 전에 우리 쪽에서 먼저 끊음 (넘기면 429를 받고 그만큼 손해)
+    private final TokenBucket perSecondLimit = new TokenBucket(
+            Long.parseLong(dotenv.get("NAVER_RATE_BURST", "20")),
+            Double.parseDouble(dotenv.get("NAVER_RATE_PER_SEC", "10")));
+    private final long dailyQuota = Long.parseLong(dotenv.get("NAVER_DAILY_QUOTA", "25000"));
+    private final TokenBucket dailyLimit = new TokenBucket(dailyQuota, dailyQuota / 86_400d);
+    // 2) 서킷 브레이커: 최근 20번 중 절반 이상 실패하면 10초 동안 호출하지 않음
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(
+            Integer.parseInt(dotenv.get("NAVER_BREAKER_WINDOW", "20")),
+            Integer.parseInt(dotenv.get("NAVER_BREAKER_MIN_CALLS", "10")),
+            Double.parseDouble(dotenv.get("NAVER_BREAKER_FAILURE_RATE", "0.5")),
+            Long.parseLong(dotenv.get("NAVER_BREAKER_OPEN_MS", "10000")),
+            Integer.parseInt(dotenv.get("NAVER_BREAKER_HALF_OPEN_CALLS", "3")));
+    // 3) 동시 요청 수 상한: 고정값(예전 Semaphore) 대신 응답 시간에 따라 NAVER_MIN_IN_FLIGHT ~ NAVER_MAX_IN_FLIGHT 사이에서 자동 조절
+    //    (MIN과 MAX를 같게 주면 고정 상한)
+    private final AdaptiveConcurrencyLimit concurrencyLimit = new AdaptiveConcurrencyLimit(
+            Integer.parseInt(dotenv.get("NAVER_INITIAL_IN_FLIGHT", "16")),
+            Integer.parseInt(dotenv.get("NAVER_MIN_IN_FLIGHT", "1")),
+            Integer.parseInt(dotenv.get("NAVER_MAX_IN_FLIGHT", "64")));
+
+    // 메트릭 (GET /metrics 에 naver_* 로 나감)
+    private final LatencyHistogram latency = Metrics.timer("naver_call_seconds");   // 요청 ~ 변환 끝
+    private final LatencyHistogram decodeLatency = Metrics.timer("naver_decode_seconds"); // 응답 본문 읽기 + JSON 변환
+    private final LongAdder circuitRejected = Metrics.counter("naver_rejected_total", "reason", "circuit_open");
+    private final LongAdder rateLimited = Metrics.counter("naver_rejected_total", "reason", "rate_limit");
+    private final LongAdder concurrencyLimited = Metrics.counter("naver_rejected_total", "reason", "concurrency");
+    private final LongAdder failures = Metrics.counter("naver_failures_total");
+    private final LongAdder timeouts = Metrics.counter("naver_deadline_exceeded_total");
+    // 마감이 지났다는 표시로 body에 넣어두는 값
+    private static final InputStream CLOSED = InputStream.nullInputStream();
 
-    // 외부에서 검색을 요청하면 이 메서드가 호출됨
+    // 응답 처리(본문 읽기, JSON 변환)는 AppConfig의 실행기에서 돌아감 (EXECUTION_MODE=virtual 이면 가상 스레드)
+    // HttpClient는 이 하나만 만들어서 모든 요청이 같이 씀 → 커넥션 풀(HTTP/2면 커넥션 하나에 여러 요청)을 공유
+    public NaverSearchAPI(ExecutorService applicationExecutor) {
+        this.applicationExecutor = applicationExecutor;
+        this.httpClient = HttpClient.newBuilder()
+                .executor(applicationExecutor)
+                // 네이버에 TCP/TLS 연결이 안 붙을 때 기다리는 최대 시간 (requestTimeout과 별개)
+                .connectTimeout(Duration.ofMillis(Long.parseLong(dotenv.get("NAVER_CONNECT_TIMEOUT_MS", "1000"))))
+                .build();
+        Metrics.gauge("naver_circuit_state", () -> circuitBreaker.state().ordinal()); // 0=CLOSED, 1=OPEN, 2=HALF_OPEN
+        Metrics.gauge("naver_concurrency_limit", concurrencyLimit::limit);
+        Metrics.gauge("naver_in_flight", concurrencyLimit::inFlight);
+        Metrics.gauge("naver_rate_tokens", perSecondLimit::available, "bucket", "per_second");
+        Metrics.gauge("naver_rate_tokens", dailyLimit::available, "bucket", "daily");
+    }
+
+    // 외부에서 검색을 요청하면 이 메서드가 호출됨 (응답이 올 때까지 현재 스레드가 기다림)
+    // 비동기 버전과 같은 장애 대응 경로를 타도록 callAPIAsync를 그대로 기다림
     public List<KeywordSearch> callAPI(NaverSearchParam param) throws Exception {
-        // 네이버 블로그 검색 API 주소
-        String url = "https://openapi.naver.com/v1/search/blog.json";
+        try {
+            return callAPIAsync(param).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 비동기 버전: 요청만 보내두고 바로 Future를 돌려줌
+    // 응답을 기다리는 동안 호출한 스레드(톰캣 요청 스레드 등)는 다른 일을 할 수 있어요.
+    // 브레이커가 열려 있거나, 할당량/동시 요청 상한에 걸리면 네이버를 부르지 않고 바로 RejectedExecutionException
+    public CompletableFuture<List<KeywordSearch>> callAPIAsync(NaverSearchParam param) {
+        CircuitBreaker.Permit permit = circuitBreaker.tryAcquire();
+        if (permit == null) {
+            circuitRejected.increment();
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Naver API circuit is open"));
+        }
+        if (!perSecondLimit.tryAcquire() || !dailyLimit.tryAcquire()) {
+            rateLimited.increment();
+            circuitBreaker.releaseUnused(permit); // 호출하지 않았으니 성공/실패로 세지 않음
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Naver API rate limit exceeded"));
+        }
+        return send(param, permit);
+    }
+
+    // 검색 한 번이 여러 요청으로 나뉘는 경우(FederatedSearchService) 한꺼번에 보냄
+    // - 네이버는 초당/일일 할당량을 모두 실제 요청 수로 세므로 두 버킷 모두 요청 수만큼 토큰을 씀
+    //   (예: 8개로 나뉘는 검색이면 NAVER_RATE_PER_SEC=10 에서 초당 검색 1~2번이 한계 → 그 이상은 429 대신 여기서 거절)
+    // - 모자라면 일부만 보내지 않고 전부 거절 (반쪽짜리 결과를 만들지 않도록)
+    // - 요청 수가 NAVER_RATE_BURST보다 많으면 절대 통과하지 못하니 fan-out(FEDERATED_VERTICALS × FEDERATED_PAGES)은 버스트 이하로
+    // 브레이커/동시 요청 상한은 요청마다 따로 적용
+    public List<CompletableFuture<List<KeywordSearch>>> callAPIBatchAsync(List<NaverSearchParam> params) {
+        if (!perSecondLimit.tryAcquire(params.size())) {
+            rateLimited.increment();
+            return rejectAll(params.size(), "Naver API rate limit exceeded");
+        }
+        if (!dailyLimit.tryAcquire(params.size())) {
+            rateLimited.increment();
+            return rejectAll(params.size(), "Naver API daily quota exceeded");
+        }
+        return params.stream().map(param -> {
+            CircuitBreaker.Permit permit = circuitBreaker.tryAcquire();
+            if (permit == null) {
+                circuitRejected.increment();
+                return CompletableFuture.<List<KeywordSearch>>failedFuture(new RejectedExecutionException("Naver API circuit is open"));
+            }
+            return send(param, permit);
+        }).toList();
+    }
+
+    private static List<CompletableFuture<List<KeywordSearch>>> rejectAll(int count, String reason) {
+        return Collections.nCopies(count, CompletableFuture.failedFuture(new RejectedExecutionException(reason)));
+    }
+
+    // 브레이커와 속도 제한을 통과한 요청 하나를 보냄 (동시 요청 상한은 여기서)
+    // 결과는 받아둔 브레이커 permit으로 알려줌 (그 사이 브레이커 상태가 바뀌었으면 브레이커가 무시)
+    private CompletableFuture<List<KeywordSearch>> send(NaverSearchParam param, CircuitBreaker.Permit permit) {
+        if (!concurrencyLimit.tryAcquire()) {
+            concurrencyLimited.increment();
+            circuitBreaker.releaseUnused(permit);
+            return CompletableFuture.failedFuture(new RejectedExecutionException("too many in-flight Naver API calls"));
+        }
+        long start = System.nanoTime();
+        // 전체 마감이 지나면 읽고 있던 본문 스트림을 닫아서 읽던 스레드를 풀어줌 (CLOSED: 이미 마감됨)
+        AtomicReference<InputStream> body = new AtomicReference<>();
+        CompletableFuture<HttpResponse<InputStream>> sent;
+        try {
+            sent = httpClient.sendAsync(buildRequest(param), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (RuntimeException e) {
+            // 요청을 만들지도 못한 경우 (인증 키가 비어 있는 등) → 잡아둔 자리를 돌려주고 실패
+            concurrencyLimit.releaseUnused();
+            circuitBreaker.releaseUnused(permit);
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<HttpResponse<InputStream>> exchange = sent;
+        return exchange
+                .thenApplyAsync(response -> {
+                    if (!body.compareAndSet(null, response.body())) {
+                        closeQuietly(response.body()); // 본문을 읽기 전에 이미 마감이 지남
+                        throw new CompletionException(new HttpTimeoutException("Naver API deadline exceeded"));
+                    }
+                    long decodeStart = System.nanoTime();
+                    try {
+                        return toKeywordSearches(response);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    } finally {
+                        decodeLatency.recordSince(decodeStart);
+                    }
+                }, applicationExecutor)
+                .orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> {
+                    long elapsed = System.nanoTime() - start;
+                    latency.record(elapsed);
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    if (cause instanceof TimeoutException) {
+                        timeouts.increment();
+                        exchange.cancel(true); // 아직 헤더를 기다리는 중이면 요청 자체를 중단
+                        InputStream reading = body.getAndSet(CLOSED);
+                        if (reading != null) {
+                            closeQuietly(reading); // 본문을 읽던 스레드는 IOException으로 빠져나옴
+                        }
+                    }
+                    concurrencyLimit.release(elapsed, isOverload(cause));
+                    if (cause == null || isClientError(cause)) {
+                        circuitBreaker.onSuccess(permit); // 400 같은 우리 쪽 요청 오류는 네이버 장애가 아님
+                    } else {
+                        failures.increment();
+                        circuitBreaker.onFailure(permit);
+                    }
+                });
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException ignored) {
+            // 버리는 스트림이라 닫다가 실패해도 상관없음
+        }
+    }
+
+    // 동시 요청 수를 줄여야 하는 신호: 타임아웃, 429(할당량 초과), 5xx
+    private static boolean isOverload(Throwable error) {
+        if (error instanceof HttpTimeoutException || error instanceof TimeoutException) {
+            return true;
+        }
+        return error instanceof NaverStatusException status && (status.statusCode() == 429 || status.statusCode() >= 500);
+    }
+
+    private static boolean isClientError(Throwable error) {
+        return error instanceof NaverStatusException status && status.statusCode() >= 400 && status.statusCode() < 500
+                && status.statusCode() != 429;
+    }
+
+    // 장애 대응 상태 (MetricsController /metrics/upstream)
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("circuitState", circuitBreaker.state().name());
+        stats.put("circuitFailureRate", circuitBreaker.failureRate());
+        stats.put("circuitOpened", circuitBreaker.openedCount());
+        stats.put("circuitRejected", circuitBreaker.rejectedCount());
+        stats.put("rateLimited", rateLimited.sum());
+        stats.put("tokensPerSecondAvailable", perSecondLimit.available());
+        stats.put("dailyTokensAvailable", dailyLimit.available());
+        stats.put("concurrencyLimit", concurrencyLimit.limit());
+        stats.put("inFlight", concurrencyLimit.inFlight());
+        stats.put("concurrencyLimited", concurrencyLimited.sum());
+        stats.put("shortRttMs", concurrencyLimit.shortRttMillis());
+        stats.put("longRttMs", concurrencyLimit.longRttMillis());
+        stats.put("calls", latency.count());
+        stats.put("failures", failures.sum());
+        stats.put("latencyP50Ms", latency.percentileMillis(0.50));
+        stats.put("latencyP99Ms", latency.percentileMillis(0.99));
+        return stats;
+    }
+
+    // 준비 단계(WarmupService)에서 네이버와 TCP/TLS 연결(HTTP/2)을 미리 열어둠
+    // 인증 헤더 없이 HEAD만 보내서 할당량을 쓰지 않고, 브레이커/속도 제한/응답 시간 통계에도 넣지 않음
+    // HTTP/2는 호스트당 커넥션 하나를 여러 요청이 같이 쓰므로 한 번이면 첫 검색이 연결 비용을 안 떠안아요.
+    // 반환값: 응답 상태 코드 (401/404여도 연결은 열린 것)
+    public CompletableFuture<Integer> warmUp() {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/v1/search/blog.json"))
+                .timeout(requestTimeout)
+                .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenApply(HttpResponse::statusCode);
+    }
+
+    private HttpRequest buildRequest(NaverSearchParam param) {
+        // 네이버 검색 API 주소 (blog.json, news.json, cafearticle.json, webkr.json ...)
+        String url = "%s/v1/search/%s.json".formatted(baseUrl, param.vertical());
 
         // 검색어 쿼리 파라미터를 URL에 안전하게 붙이기 위해 인코딩
         // 예: "강아지 사료" → "강아지%20사료"
         String query = URLEncoder.encode(param.query(), StandardCharsets.UTF_8);
 
         // HTTP 요청을 구성 (GET 방식)
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create("%s?query=%s".formatted(url, query))) // URL에 쿼리 붙임
+        return HttpRequest.newBuilder()
+                .uri(URI.create("%s?query=%s&display=%d&start=%d".formatted(url, query, param.display(), param.start()))) // URL에 쿼리 붙임
+                .timeout(requestTimeout) // 네이버가 느려도 무한정 기다리지 않도록
+                .header("Accept-Encoding", "gzip") // 응답을 압축해서 받음 (HttpClient는 자동으로 풀어주지 않아서 파서가 직접 풂)
                 .header("X-Naver-Client-Id", dotenv.get("NAVER_CLIENT_ID"))       // 인증용 헤더 1
                 .header("X-Naver-Client-Secret", dotenv.get("NAVER_CLIENT_SECRET")) // 인증용 헤더 2
                 .build();
+    }
 
-        // 요청을 실제로 보냄, 응답은 문자열 형태로 받음
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-        // 응답 본문 (JSON 문자열)
-        String responseBody = response.body();
-
-        // JSON 문자열을 NaverSearchResult 객체로 변환
-        NaverSearchResult naverSearchResult = objectMapper.readValue(responseBody, NaverSearchResult.class);
-
-        // 결과 리스트를 우리가 쓰는 형태(KeywordSearch)로 바꿔서 리턴
-        return naverSearchResult.items()
-                .stream().map(item -> new KeywordSearch(
-                        UUID.randomUUID().toString(), // uuid 임의 생성
-                        item.title(),
-                        item.link(),
-                        item.description(),
-                        item.postdate()
-                ))
-                .toList();
+    // 응답 스트림을 읽으면서 바로 KeywordSearch 목록으로 변환 (NaverResponseParser)
+    private List<KeywordSearch> toKeywordSearches(HttpResponse<InputStream> response) throws IOException {
+        if (response.statusCode() != 200) {
+            response.body().close(); // 읽지 않은 본문은 닫아야 커넥션이 재사용됨
+            throw new NaverStatusException(response.statusCode());
+        }
+        boolean gzip = response.headers().firstValue("Content-Encoding")
+                .map(encoding -> encoding.equalsIgnoreCase("gzip"))
+                .orElse(false);
+        return parser.parse(response.body(), gzip);
      }
+
+    // 네이버가 200이 아닌 상태 코드로 응답한 경우 (브레이커/동시성 조절에서 상태 코드를 보고 판단)
+    public static class NaverStatusException extends IOException {
+        private final int statusCode;
+
+        public NaverStatusException(int statusCode) {
+            super("Naver API responded with status %d".formatted(statusCode));
+            this.statusCode = statusCode;
+        }
+
+        public int statusCode() {
+            return statusCode;
+        }
+    }
 }
 
 ```
@@ -50,7 +321,7 @@ public class NaverSearchAPI implements DotenvMixin, ObjectMapperMixin {
         ↓
 [HttpRequest]             ← 요청 만들기 (URL, 헤더, 파라미터)
         ↓
-[NaverSearchResult]       ← JSON 결과 → 자바 객체로 변환 (ObjectMapper)
+[NaverResponseParser]     ← JSON 스트림 → KeywordSearch로 바로 변환 (Jackson JsonParser)
         ↓
 [List<KeywordSearch>]     ← 결과 가공해서 리턴
 ```
@@ -0,0 +1,241 @@
+package org.example.searchbookmark.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.ObjDoubleConsumer;
+
+// 인기 검색어 자동완성용 압축 트라이 (radix trie), 한 번 만들면 바뀌지 않음 → 여러 스레드가 락 없이 같이 읽음
+// - 공통 접두어를 한 간선(label)으로 묶어서 노드 수가 키워드 수의 2배를 넘지 않음
+// - 노드 정보는 객체가 아니라 int/double 배열 몇 개에 나눠 담음 (노드 객체 + 자식 Map 대비 메모리가 훨씬 작고 캐시에 잘 맞음)
+// - 노드마다 "이 아래에서 가장 높은 점수(maxWeight)"를 들고 있어서
+//   접두어 노드에서 점수가 높은 가지부터 꺼내 보면(best-first) 상위 n개를 n번 남짓 꺼내고 끝남 (키워드 수와 무관)
+//
+//   예) 고양이(30) 고양이 사료(12) 고구마(5)
+//       (root) ─"고"─ [30] ┬─"양이"─ [30]* ── " 사료" [12]*
+//                          └─"구마"─ [5]*          (* = 여기서 끝나는 키워드)
+//       suggest("고양") → "고"로 내려가서 "양이" 간선 중간에서 멈춤 → 그 아래에서 점수순: 고양이, 고양이 사료
+public final class PrefixIndex {
+    public static final PrefixIndex EMPTY = build(Map.of());
+
+    private final String[] keywords;   // 키워드 번호 → 문자열
+    private final double[] weights;    // 키워드 번호 → 점수
+    private final char[] labels;       // 모든 간선 글자를 이어붙인 것
+    private final int[] labelStart;    // 노드 번호 → 들어오는 간선의 labels 시작 위치
+    private final int[] labelLength;   //            → 간선 길이
+    private final int[] firstChild;    //            → 첫 자식 노드 번호 (자식들은 첫 글자 순으로 붙어 있음)
+    private final int[] childCount;    //            → 자식 수
+    private final int[] keywordAt;     //            → 여기서 끝나는 키워드 번호 (없으면 -1)
+    private final double[] maxWeight;  //            → 이 노드 아래 키워드 중 가장 높은 점수
+
+    private PrefixIndex(String[] keywords, double[] weights, char[] labels, int[] labelStart, int[] labelLength,
+                        int[] firstChild, int[] childCount, int[] keywordAt, double[] maxWeight) {
+        this.keywords = keywords;
+        this.weights = weights;
+        this.labels = labels;
+        this.labelStart = labelStart;
+        this.labelLength = labelLength;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.keywordAt = keywordAt;
+        this.maxWeight = maxWeight;
+    }
+
+    // 키워드 → 점수 (점수가 높을수록 먼저 제안)
+    public static PrefixIndex build(Map<String, Double> weighted) {
+        String[] keywords = weighted.keySet().stream().filter(keyword -> !keyword.isEmpty()).sorted().toArray(String[]::new);
+        double[] weights = new double[keywords.length];
+        for (int i = 0; i < keywords.length; i++) {
+            weights[i] = weighted.get(keywords[i]);
+        }
+
+        // 정렬된 키워드 구간 [lo, hi)를 노드 하나로 보고 너비 우선으로 만듦 → 한 노드의 자식들은 번호가 연속
+        StringBuilder labels = new StringBuilder();
+        IntList labelStart = new IntList();
+        IntList labelLength = new IntList();
+        IntList firstChild = new IntList();
+        IntList childCount = new IntList();
+        IntList keywordAt = new IntList();
+        ArrayDeque<int[]> queue = new ArrayDeque<>(); // {노드 번호, lo, hi, 깊이(글자 수)}
+
+        labelStart.add(0);
+        labelLength.add(0);
+        firstChild.add(0);
+        childCount.add(0);
+        keywordAt.add(-1);
+        queue.add(new int[]{0, 0, keywords.length, 0});
+        while (!queue.isEmpty()) {
+            int[] next = queue.poll();
+            int node = next[0];
+            int lo = next[1];
+            int hi = next[2];
+            int depth = next[3];
+            // 정렬돼 있으니 여기서 딱 끝나는 키워드는 구간의 맨 앞에 하나만 있음
+            if (lo < hi && keywords[lo].length() == depth) {
+                keywordAt.set(node, lo);
+                lo++;
+            }
+            firstChild.set(node, labelStart.size());
+            int children = 0;
+            // 깊이 위치의 글자가 같은 키워드끼리 묶어서 자식 하나로
+            for (int start = lo; start < hi; ) {
+                char c = keywords[start].charAt(depth);
+                int end = start + 1;
+                while (end < hi && keywords[end].charAt(depth) == c) {
+                    end++;
+                }
+                // 묶음의 공통 접두어 = 첫 키워드와 마지막 키워드의 공통 접두어 (정렬돼 있어서)
+                int common = commonPrefix(keywords[start], keywords[end - 1], depth);
+                int child = labelStart.size();
+                labelStart.add(labels.length());
+                labelLength.add(common - depth);
+                labels.append(keywords[start], depth, common);
+                firstChild.add(0);
+                childCount.add(0);
+                keywordAt.add(-1);
+                queue.add(new int[]{child, start, end, common});
+                children++;
+                start = end;
+            }
+            childCount.set(node, children);
+        }
+
+        // 자식 번호는 항상 부모보다 크니까 뒤에서부터 한 번 돌면 maxWeight가 아래에서 위로 채워짐
+        int nodes = labelStart.size();
+        int[] firstChildArray = firstChild.toArray();
+        int[] childCountArray = childCount.toArray();
+        int[] keywordAtArray = keywordAt.toArray();
+        double[] maxWeight = new double[nodes];
+        for (int node = nodes - 1; node >= 0; node--) {
+            double best = keywordAtArray[node] >= 0 ? weights[keywordAtArray[node]] : Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < childCountArray[node]; i++) {
+                best = Math.max(best, maxWeight[firstChildArray[node] + i]);
+            }
+            maxWeight[node] = best;
+        }
+        char[] labelChars = new char[labels.length()];
+        labels.getChars(0, labels.length(), labelChars, 0);
+        return new PrefixIndex(keywords, weights, labelChars, labelStart.toArray(), labelLength.toArray(),
+                firstChildArray, childCountArray, keywordAtArray, maxWeight);
+    }
+
+    private static int commonPrefix(String a, String b, int from) {
+        int limit = Math.min(a.length(), b.length());
+        int i = from;
+        while (i < limit && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    public int size() {
+        return keywords.length;
+    }
+
+    public int nodeCount() {
+        return labelStart.length;
+    }
+
+    // 키워드 → 점수 전체 (디스크 스냅샷용)
+    public void forEach(ObjDoubleConsumer<String> consumer) {
+        for (int i = 0; i < keywords.length; i++) {
+            consumer.accept(keywords[i], weights[i]);
+        }
+    }
+
+    // prefix로 시작하는 키워드를 점수가 높은 순서로 최대 limit개
+    public List<String> suggest(String prefix, int limit) {
+        int node = find(prefix);
+        if (node < 0 || limit <= 0) {
+            return List.of();
+        }
+        List<String> results = new ArrayList<>(limit);
+        // 큐 항목: 노드(그 아래 최고 점수로 정렬) 또는 키워드(자기 점수). 노드 번호는 0 이상, 키워드는 -(번호 + 1)
+        PriorityQueue<long[]> queue = new PriorityQueue<>(Comparator.comparingDouble(entry -> -Double.longBitsToDouble(entry[0])));
+        queue.add(new long[]{Double.doubleToLongBits(maxWeight[node]), node});
+        while (!queue.isEmpty() && results.size() < limit) {
+            long[] entry = queue.poll();
+            if (entry[1] < 0) {
+                results.add(keywords[(int) (-entry[1] - 1)]);
+                continue;
+            }
+            int current = (int) entry[1];
+            if (keywordAt[current] >= 0) {
+                queue.add(new long[]{Double.doubleToLongBits(weights[keywordAt[current]]), -(keywordAt[current] + 1L)});
+            }
+            for (int i = 0; i < childCount[current]; i++) {
+                int child = firstChild[current] + i;
+                queue.add(new long[]{Double.doubleToLongBits(maxWeight[child]), child});
+            }
+        }
+        return results;
+    }
+
+    // prefix를 다 읽었을 때 도착하는 노드 (간선 중간에서 끝나도 그 간선의 노드), 없으면 -1
+    private int find(String prefix) {
+        int node = 0;
+        int position = 0;
+        while (position < prefix.length()) {
+            int child = childStartingWith(node, prefix.charAt(position));
+            if (child < 0) {
+                return -1;
+            }
+            int matched = Math.min(labelLength[child], prefix.length() - position);
+            for (int i = 0; i < matched; i++) {
+                if (labels[labelStart[child] + i] != prefix.charAt(position + i)) {
+                    return -1;
+                }
+            }
+            position += matched;
+            node = child;
+        }
+        return node;
+    }
+
+    // 자식들은 간선 첫 글자 순으로 정렬돼 있어서 이진 탐색
+    private int childStartingWith(int node, char c) {
+        int lo = firstChild[node];
+        int hi = lo + childCount[node] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char first = labels[labelStart[mid]];
+            if (first < c) {
+                lo = mid + 1;
+            } else if (first > c) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // 만드는 동안만 쓰는 늘어나는 int 배열 (List<Integer> 박싱을 피하려고)
+    private static final class IntList {
+        private int[] values = new int[64];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void set(int index, int value) {
+            values[index] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
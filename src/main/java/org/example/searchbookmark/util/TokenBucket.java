@@ -0,0 +1,45 @@
+package org.example.searchbookmark.util;
+
+// 토큰 버킷 방식의 요청 속도 제한기
+// - 버킷에 토큰이 최대 capacity개까지 쌓이고, 초당 refillPerSecond개씩 다시 채워짐
+// - 요청 하나가 토큰 하나를 씀 → 평균은 refillPerSecond, 잠깐 몰리는 건 capacity개까지 허용
+// - 토큰이 없으면 기다리지 않고 바로 false (호출하는 쪽에서 실패 처리)
+public class TokenBucket {
+    private final double capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(long capacity, double refillPerSecond) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public boolean tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    // permits개를 한꺼번에 (모자라면 하나도 쓰지 않고 false)
+    public synchronized boolean tryAcquire(long permits) {
+        refill();
+        if (tokens >= permits) {
+            tokens -= permits;
+            return true;
+        }
+        return false;
+    }
+
+    // 지금 남아 있는 토큰 수 (메트릭용)
+    public synchronized double available() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.searchbookmark.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 시간 순서대로 커지는 UUID (RFC 9562 버전 7)
+// [밀리초 타임스탬프 48비트][버전 4비트][순번 12비트][variant 2비트][난수 62비트]
+// - DB에 가지 않고 앱에서 바로 id를 만들 수 있어서, INSERT가 끝나기 전에도 id를 알려줄 수 있어요.
+// - 앞부분이 시각이라 새 id는 항상 인덱스 끝쪽에 붙음 (gen_random_uuid()처럼 B-tree 여기저기에 끼어들지 않음)
+// - 순번은 스레드마다 따로 들고 있어서 여러 스레드가 동시에 만들어도 서로 기다리지 않아요. (공유 카운터/락 없음)
+//   같은 스레드 안에서는 만든 순서대로 정렬되고, 스레드끼리는 밀리초 단위까지만 순서가 맞음
+//   (인덱스 지역성에는 그걸로 충분하고, 겹치지 않는 건 62비트 난수가 보장)
+// - UUID.randomUUID()는 SecureRandom을 거쳐서 느리고 스레드가 많으면 서로 막히는데, 여기는 ThreadLocalRandom만 씀
+//   (id는 추측 불가능할 필요가 없는 값이라 괜찮음 - 비밀 토큰에는 쓰면 안 됨)
+public final class UuidV7 {
+    // 스레드별 마지막 (타임스탬프 << 12 | 순번)
+    private static final ThreadLocal<long[]> last = ThreadLocal.withInitial(() -> new long[1]);
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] state = last.get();
+        long now = System.currentTimeMillis();
+        long next;
+        if (now > state[0] >>> 12) {
+            // 새 밀리초: 순번을 아래쪽 절반 중 임의 값에서 시작 (스레드끼리 같은 값으로 시작하지 않도록, 올라갈 여유는 남김)
+            next = now << 12 | random.nextInt(2048);
+        } else {
+            // 같은 밀리초(또는 시계가 뒤로 감): 이전 값 + 1 (순번이 넘치면 타임스탬프가 1ms 앞으로 감)
+            next = state[0] + 1;
+        }
+        state[0] = next;
+
+        long mostSigBits = (next >>> 12) << 16 | 0x7000L | (next & 0xFFFL);
+        long leastSigBits = random.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public static String nextString() {
+        return next().toString();
+    }
+
+    // 16바이트 (MySQL binary(16) 컬럼용, 바이트 순서 = 문자열 순서 = 시간 순서)
+    public static byte[] toBytes(UUID uuid) {
+        byte[] bytes = new byte[16];
+        long most = uuid.getMostSignificantBits();
+        long least = uuid.getLeastSignificantBits();
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (most >>> (56 - 8 * i));
+            bytes[8 + i] = (byte) (least >>> (56 - 8 * i));
+        }
+        return bytes;
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        long most = 0;
+        long least = 0;
+        for (int i = 0; i < 8; i++) {
+            most = most << 8 | (bytes[i] & 0xFF);
+            least = least << 8 | (bytes[8 + i] & 0xFF);
+        }
+        return new UUID(most, least);
+    }
+
+    // 잘못된 형식이면 null (주소창에 아무 문자열이나 넣어도 DB까지 가지 않게)
+    public static UUID parseOrNull(String value) {
+        if (value == null || value.length() != 36) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
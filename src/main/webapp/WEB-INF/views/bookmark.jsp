@@ -1,80 +1,24 @@
 <%@ page import="org.example.searchbookmark.model.vo.KeywordSearch" %>
-<%@ page contentType="text/html; charset=UTF-8" pageEncoding="UTF-8" %>
+<%@ page import="org.example.searchbookmark.util.HtmlEscaper" %>
+<%@ page contentType="text/html; charset=UTF-8" pageEncoding="UTF-8" session="false" trimDirectiveWhitespaces="true" %>
 <!DOCTYPE html>
 <html>
 <head>
     <% KeywordSearch bookmark = (KeywordSearch) request.getAttribute("bookmark"); %>
-    <title><%= bookmark.title() %></title>
-    <meta property="og:title" content="<%= bookmark.title() %>" />
-    <meta property="og:description" content="<%= bookmark.description() %>" />
-    <meta property="og:url" content="<%= bookmark.link() %>" />
+    <title><% HtmlEscaper.attribute(out, bookmark.title()); %></title>
+    <meta property="og:title" content="<% HtmlEscaper.attribute(out, bookmark.title()); %>" />
+    <meta property="og:description" content="<% HtmlEscaper.attribute(out, bookmark.description()); %>" />
+    <meta property="og:url" content="<% HtmlEscaper.url(out, bookmark.link()); %>" />
     <meta property="og:type" content="website" />
-    <meta property="og:image" content="https://via.placeholder.com/300" /> <style>
-    body {
-        font-family: sans-serif;
-        margin: 20px;
-        background-color: #f4f4f4;
-    }
-
-    .bookmark-container {
-        background-color: white;
-        padding: 20px;
-        border-radius: 8px;
-        box-shadow: 0 2px 4px rgba(0, 0, 0, 0.1);
-        max-width: 600px;
-        margin: 0 auto;
-    }
-
-    h1 {
-        color: #333;
-        margin-bottom: 10px;
-    }
-
-    a {
-        color: #007bff;
-        text-decoration: none;
-    }
-
-    a:hover {
-        text-decoration: underline;
-    }
-
-    p {
-        line-height: 1.6;
-        color: #555;
-    }
-
-    .date {
-        color: #888;
-        font-size: 0.9em;
-        margin-top: 10px;
-    }
-
-    form {
-        margin-top: 20px;
-        text-align: center;
-    }
-
-    button {
-        padding: 10px 20px;
-        background-color: #007bff;
-        color: white;
-        border: none;
-        border-radius: 5px;
-        cursor: pointer;
-    }
-
-    button:hover {
-        background-color: #0056b3;
-    }
-</style>
+    <meta property="og:image" content="https://via.placeholder.com/300" />
+    <link rel="stylesheet" href="<%= response.encodeURL(request.getContextPath() + "/asset/site.css") %>">
 </head>
-<body>
+<body class="page-bookmark">
 <div class="bookmark-container">
-    <h1><%= bookmark.title() %></h1>
-    <a href="<%= bookmark.link() %>" target="_blank"><%= bookmark.link() %></a>
-    <p><%= bookmark.description() %></p>
-    <p class="date">날짜: <%= bookmark.date() %></p>
+    <h1><% HtmlEscaper.text(out, bookmark.title()); %></h1>
+    <a href="<% HtmlEscaper.url(out, bookmark.link()); %>" target="_blank" rel="noopener"><% HtmlEscaper.text(out, bookmark.link()); %></a>
+    <p><% HtmlEscaper.text(out, bookmark.description()); %></p>
+    <p class="date">날짜: <% HtmlEscaper.text(out, bookmark.date()); %></p>
     <p class="date">생성일: <%= bookmark.createdAt() %></p>
 
     <form action="<%=request.getContextPath().isEmpty() ? "/" : request.getContextPath() %>">
@@ -82,4 +26,4 @@
     </form>
 </div>
 </body>
-</html>
\ No newline at end of file
+</html>
@@ -0,0 +1,28 @@
+<%@ page import="org.example.searchbookmark.model.vo.BookmarkPage" %>
+<%@ page import="org.example.searchbookmark.model.vo.BookmarkSummary" %>
+<%@ page import="org.example.searchbookmark.util.HtmlEscaper" %>
+<%@ page contentType="text/html; charset=UTF-8" pageEncoding="UTF-8" session="false" trimDirectiveWhitespaces="true" %>
+<!DOCTYPE html>
+<html>
+<head>
+    <% BookmarkPage bookmarkPage = (BookmarkPage) request.getAttribute("page"); %>
+    <title>북마크 목록</title>
+    <link rel="stylesheet" href="<%= response.encodeURL(request.getContextPath() + "/asset/site.css") %>">
+</head>
+<body class="page-bookmarks">
+<div class="bookmark-list">
+    <h1>북마크 목록</h1>
+    <ul>
+        <% for (BookmarkSummary v : bookmarkPage.items()) { %>
+        <li>
+            <a href="<%= request.getContextPath() %>/<%= v.uuid() %>"><% HtmlEscaper.text(out, v.title()); %></a>
+            <div class="date">날짜: <% HtmlEscaper.text(out, v.date()); %> · 생성일: <%= v.createdAt() %></div>
+        </li>
+        <% } %>
+    </ul>
+    <% if (bookmarkPage.next() != null) { %>
+    <a class="next" href="<%= request.getContextPath() %>/bookmarks?after=<%= bookmarkPage.next() %>">다음 페이지</a>
+    <% } %>
+</div>
+</body>
+</html>
@@ -1,96 +1,20 @@
 <%@ page import="org.example.searchbookmark.model.vo.KeywordSearch" %>
+<%@ page import="org.example.searchbookmark.util.HtmlEscaper" %>
 <%@ page import="java.util.List" %>
-<%@ page contentType="text/html; charset=UTF-8" pageEncoding="UTF-8" %>
+<%@ page contentType="text/html; charset=UTF-8" pageEncoding="UTF-8" session="false" trimDirectiveWhitespaces="true" %>
+<%-- session="false": 화면을 그릴 때 HttpSession을 만들지 않음 / 검색 결과 문자열은 HtmlEscaper로 JspWriter에 바로 씀 --%>
 <!DOCTYPE html>
 <html>
 <head>
     <title>검색 결과</title>
-    <style>
-        body {
-            font-family: sans-serif;
-            margin: 20px;
-        }
-
-        h1 {
-            color: #333;
-            margin-bottom: 20px;
-        }
-
-        form {
-            margin-bottom: 20px;
-        }
-
-        label {
-            display: inline-block;
-            margin-right: 10px;
-        }
-
-        input[type="text"] {
-            padding: 8px;
-            border: 1px solid #ccc;
-            border-radius: 4px;
-        }
-
-        input[type="submit"] {
-            padding: 8px 16px;
-            background-color: #007bff;
-            color: white;
-            border: none;
-            border-radius: 4px;
-            cursor: pointer;
-        }
-
-        input[type="submit"]:hover {
-            background-color: #0056b3;
-        }
-
-        section {
-            display: flex;
-            flex-direction: column;
-            align-items: center;
-            justify-content: center;
-            gap: 12px;
-        }
-
-        div {
-            border: 1px solid #ddd;
-            padding: 15px;
-            border-radius: 8px;
-            width: 80%;
-            max-width: 600px;
-        }
-
-        h3 {
-            margin-bottom: 10px;
-        }
-
-        ul {
-            list-style-type: none;
-            padding: 0;
-        }
-
-        li {
-            margin-bottom: 5px;
-        }
-
-        button {
-            padding: 8px 16px;
-            background-color: #28a745;
-            color: white;
-            border: none;
-            border-radius: 4px;
-            cursor: pointer;
-        }
-
-        button:hover {
-            background-color: #218838;
-        }
-    </style>
+    <link rel="stylesheet" href="<%= response.encodeURL(request.getContextPath() + "/asset/site.css") %>">
 </head>
-<body>
+<body class="page-search">
 <h1>검색 결과</h1>
 <form>
-    <label>키워드: <input name="keyword"></label>
+    <label>키워드: <input name="keyword" list="keyword-suggest" autocomplete="off"
+                       data-suggest="<%= request.getContextPath() %>/suggest"></label>
+    <datalist id="keyword-suggest"></datalist>
     <input type="submit" value="검색">
 </form>
 <% if (request.getAttribute("result") != null) { %>
@@ -99,13 +23,13 @@
         for (KeywordSearch v : (List<KeywordSearch>) request.getAttribute("result")) {
     %>
     <div>
-        <h3><%= v.title() %></h3>
+        <h3><% HtmlEscaper.text(out, v.title()); %></h3>
         <ul>
-            <li><a href="<%= v.link() %>" target="_blank"><%= v.link() %></a></li>
-            <li><%= v.description() %></li>
-            <li>날짜: <%= v.date() %></li>
+            <li><a href="<% HtmlEscaper.url(out, v.link()); %>" target="_blank" rel="noopener"><% HtmlEscaper.text(out, v.link()); %></a></li>
+            <li><% HtmlEscaper.text(out, v.description()); %></li>
+            <li>날짜: <% HtmlEscaper.text(out, v.date()); %></li>
             <form action="bookmark" method="post">
-                <input type="hidden" name="uuid" value="<%= v.uuid() %>">
+                <input type="hidden" name="uuid" value="<% HtmlEscaper.attribute(out, v.uuid()); %>">
                 <button>북마크 추가</button>
             </form>
         </ul>
@@ -115,5 +39,6 @@
     %>
 </section>
 <% } %>
+<script src="<%= response.encodeURL(request.getContextPath() + "/asset/suggest.js") %>" defer></script>
 </body>
-</html>
\ No newline at end of file
+</html>
@@ -0,0 +1,38 @@
+// 검색창 자동완성: 입력이 잠깐 멈추면 GET /suggest?q= 로 인기 검색어를 받아 <datalist>에 채움
+// (서버는 메모리 인덱스만 읽어서 바로 답하고, 네이버 API는 검색 버튼을 눌렀을 때만 불림)
+(function () {
+    var input = document.querySelector('input[data-suggest]');
+    if (!input || !window.fetch) {
+        return;
+    }
+    var list = document.getElementById(input.getAttribute('list'));
+    var timer = null;
+    var last = '';
+    input.addEventListener('input', function () {
+        clearTimeout(timer);
+        timer = setTimeout(function () {
+            var q = input.value.trim();
+            if (q === last) {
+                return;
+            }
+            last = q;
+            if (!q) {
+                list.replaceChildren();
+                return;
+            }
+            fetch(input.getAttribute('data-suggest') + '?q=' + encodeURIComponent(q))
+                .then(function (response) { return response.ok ? response.json() : []; })
+                .then(function (keywords) {
+                    if (q !== last) {
+                        return; // 그 사이에 더 입력함
+                    }
+                    list.replaceChildren.apply(list, keywords.map(function (keyword) {
+                        var option = document.createElement('option');
+                        option.value = keyword;
+                        return option;
+                    }));
+                })
+                .catch(function () {});
+        }, 100);
+    });
+})();